@@ -0,0 +1,81 @@
+package com.ringale.banking_app.archive;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically moves accounts inactive for longer than the threshold to the
+ * archive table. Each run walks the accounts table once in ID order, archiving
+ * one batch per short transaction and pausing between batches so the job
+ * never holds many row locks or saturates the database; a run stops after
+ * a maximum number of batches and the rest waits for the next one.
+ */
+@Component
+public class AccountArchiveJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccountArchiveJob.class);
+    private final AccountArchiver archiver;
+    private final boolean enabled;
+    private final Duration inactiveAfter;
+    private final int batchSize;
+    private final long batchPauseMs;
+    private final int maxBatchesPerRun;
+
+    public AccountArchiveJob(AccountArchiver archiver,
+            @Value("${banking.archive.enabled:true}") boolean enabled,
+            @Value("${banking.archive.inactive-after:730d}") Duration inactiveAfter,
+            @Value("${banking.archive.batch-size:500}") int batchSize,
+            @Value("${banking.archive.batch-pause-ms:200}") long batchPauseMs,
+            @Value("${banking.archive.max-batches-per-run:1000}") int maxBatchesPerRun) {
+        this.archiver = archiver;
+        this.enabled = enabled;
+        this.inactiveAfter = inactiveAfter;
+        this.batchSize = batchSize;
+        this.batchPauseMs = batchPauseMs;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    /**
+     * Archive accounts not updated within the inactivity threshold
+     */
+    @Scheduled(initialDelayString = "${banking.archive.initial-delay-ms:60000}",
+            fixedDelayString = "${banking.archive.interval-ms:3600000}")
+    public void archiveDormantAccounts() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minus(inactiveAfter);
+        long afterId = 0;
+        int archived = 0;
+        int batches = 0;
+        List<Long> candidates;
+        do {
+            candidates = archiver.findDormantIds(afterId, cutoff, batchSize);
+            if (candidates.isEmpty()) {
+                break;
+            }
+            archived += archiver.archive(candidates, cutoff);
+            afterId = candidates.get(candidates.size() - 1);
+            batches++;
+        } while (candidates.size() == batchSize && batches < maxBatchesPerRun && pause());
+        archiver.refreshCounts();
+        logger.info("Archived {} accounts inactive since {} in {} batches", archived, cutoff, batches);
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(batchPauseMs);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
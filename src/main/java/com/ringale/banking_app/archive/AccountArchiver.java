@@ -0,0 +1,172 @@
+package com.ringale.banking_app.archive;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ringale.banking_app.entity.Account;
+import com.ringale.banking_app.entity.ArchivedAccount;
+import com.ringale.banking_app.repository.AccountRepository;
+import com.ringale.banking_app.repository.ArchivedAccountRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Moves dormant accounts between the accounts table and accounts_archive.
+ * Archiving locks the candidate rows and re-checks them, so an account that
+ * was updated or got a hold after it was selected stays where it is.
+ * Rehydration locks the archive row, so concurrent reads of the same
+ * archived account restore it once; the restored row keeps its ID, balance
+ * and version and counts as activity so it is not archived again straight away.
+ * The table size gauges are recounted after every archive run and adjusted
+ * for accounts moved in between.
+ */
+@Component
+public class AccountArchiver {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccountArchiver.class);
+
+    private final AccountRepository accountRepository;
+    private final ArchivedAccountRepository archivedAccountRepository;
+    private final Timer rehydrations;
+    private final AtomicLong hotAccounts = new AtomicLong(-1);
+    private final AtomicLong archivedAccounts = new AtomicLong(-1);
+
+    @Autowired
+    public AccountArchiver(AccountRepository accountRepository, ArchivedAccountRepository archivedAccountRepository,
+            MeterRegistry meterRegistry) {
+        this.accountRepository = accountRepository;
+        this.archivedAccountRepository = archivedAccountRepository;
+        this.rehydrations = Timer.builder("banking.accounts.rehydration").register(meterRegistry);
+        Gauge.builder("banking.accounts.hot", hotAccounts, AccountArchiver::countOrNaN).register(meterRegistry);
+        Gauge.builder("banking.accounts.archived", archivedAccounts, AccountArchiver::countOrNaN)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Find accounts not updated since the cutoff and without held funds
+     * 
+     * @param afterId - Only IDs greater than this are returned
+     * @param cutoff - Last activity before which an account is dormant
+     * @param limit - Maximum number of IDs
+     * @return Candidate IDs in ascending order
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findDormantIds(long afterId, LocalDateTime cutoff, int limit) {
+        return accountRepository.findDormantIdsAfter(afterId, cutoff, Limit.of(limit));
+    }
+
+    /**
+     * Move dormant accounts to the archive table
+     * 
+     * @param ids - Candidate account IDs
+     * @param cutoff - Last activity before which an account is dormant
+     * @return Number of accounts archived
+     */
+    @Transactional
+    public int archive(Collection<Long> ids, LocalDateTime cutoff) {
+        List<Long> dormant = new ArrayList<>(ids.size());
+        for (Account account : accountRepository.findAllByIdForUpdate(ids)) {
+            if (isDormant(account, cutoff)) {
+                dormant.add(account.getId());
+            }
+        }
+        if (dormant.isEmpty()) {
+            return 0;
+        }
+        archivedAccountRepository.copyFromAccounts(dormant, LocalDateTime.now());
+        accountRepository.deleteAllByIdInBatch(dormant);
+        hotAccounts.accumulateAndGet(-dormant.size(), AccountArchiver::adjustKnown);
+        archivedAccounts.accumulateAndGet(dormant.size(), AccountArchiver::adjustKnown);
+        return dormant.size();
+    }
+
+    /**
+     * Keep only the IDs that are in the archive table
+     * 
+     * @param ids - Account IDs
+     * @return Archived account IDs
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findArchivedIds(Collection<Long> ids) {
+        return ids.isEmpty() ? List.of() : archivedAccountRepository.findIdsIn(ids);
+    }
+
+    /**
+     * Restore an archived account as part of the caller's transaction
+     * 
+     * @param id - Account ID
+     * @return Locked account if it is archived or was restored concurrently, otherwise empty
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Optional<Account> rehydrate(Long id) {
+        return restore(id);
+    }
+
+    /**
+     * Restore an archived account in its own transaction, for reads that run
+     * without one. A caller holding a transaction would hold a second connection.
+     * 
+     * @param id - Account ID
+     * @return Restored account, detached, if it is archived or was restored concurrently, otherwise empty
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<Account> rehydrateInNewTransaction(Long id) {
+        return restore(id);
+    }
+
+    /**
+     * Count the rows in both tables for the size gauges
+     */
+    @Transactional(readOnly = true)
+    public void refreshCounts() {
+        hotAccounts.set(accountRepository.count());
+        archivedAccounts.set(archivedAccountRepository.count());
+    }
+
+    private Optional<Account> restore(Long id) {
+        Timer.Sample sample = Timer.start();
+        Optional<ArchivedAccount> archived = archivedAccountRepository.findByIdForUpdate(id);
+        if (archived.isPresent()) {
+            archivedAccountRepository.restoreToAccounts(id, LocalDateTime.now());
+            archivedAccountRepository.delete(archived.get());
+            hotAccounts.accumulateAndGet(1, AccountArchiver::adjustKnown);
+            archivedAccounts.accumulateAndGet(-1, AccountArchiver::adjustKnown);
+        }
+        // A locking read sees a row restored by a concurrent transaction that a
+        // repeatable-read snapshot taken before it committed would miss
+        Optional<Account> account = accountRepository.findByIdForUpdate(id);
+        if (archived.isPresent()) {
+            sample.stop(rehydrations);
+            logger.info("Rehydrated archived account {}", id);
+        }
+        return account;
+    }
+
+    private static boolean isDormant(Account account, LocalDateTime cutoff) {
+        LocalDateTime lastActivity = account.getUpdatedAt() != null ? account.getUpdatedAt() : account.getCreatedAt();
+        return account.getHeldBalance() == 0 && lastActivity != null && lastActivity.isBefore(cutoff);
+    }
+
+    private static long adjustKnown(long count, long delta) {
+        return count < 0 ? count : Math.max(0, count + delta);
+    }
+
+    private static double countOrNaN(AtomicLong count) {
+        long value = count.get();
+        return value < 0 ? Double.NaN : value;
+    }
+}
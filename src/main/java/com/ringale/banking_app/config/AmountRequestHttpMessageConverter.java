@@ -0,0 +1,107 @@
+package com.ringale.banking_app.config;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import com.ringale.banking_app.dto.AmountRequest;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.ObjectReadContext;
+import tools.jackson.core.json.JsonFactory;
+
+/**
+ * Reads JSON {@link AmountRequest} bodies with the Jackson streaming parser.
+ * Deposits and withdrawals are the hottest write endpoints; reading the two
+ * fields directly avoids databind's per-request object graph. Unknown
+ * properties are skipped, matching the default Jackson configuration.
+ */
+public class AmountRequestHttpMessageConverter extends AbstractHttpMessageConverter<AmountRequest> {
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    public AmountRequestHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return AmountRequest.class == clazz;
+    }
+
+    @Override
+    protected boolean canWrite(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected AmountRequest readInternal(Class<? extends AmountRequest> clazz, HttpInputMessage inputMessage)
+            throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(ObjectReadContext.empty(), inputMessage.getBody())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new HttpMessageNotReadableException("Request body must be a JSON object", inputMessage);
+            }
+            Double amount = null;
+            String currency = null;
+            while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+                String property = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("amount".equals(property)) {
+                    amount = readAmount(parser, value, inputMessage);
+                } else if ("currency".equals(property)) {
+                    currency = readCurrency(parser, value, inputMessage);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return new AmountRequest(amount, currency);
+        } catch (JacksonException | NumberFormatException ex) {
+            throw new HttpMessageNotReadableException("Malformed amount request: " + ex.getMessage(), ex, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(AmountRequest amountRequest, HttpOutputMessage outputMessage) {
+        throw new HttpMessageNotWritableException("AmountRequest is a request-only type");
+    }
+
+    private Double readAmount(JsonParser parser, JsonToken value, HttpInputMessage inputMessage) {
+        double amount;
+        switch (value) {
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                amount = parser.getDoubleValue();
+                break;
+            case VALUE_STRING:
+                amount = Double.parseDouble(parser.getString());
+                break;
+            case VALUE_NULL:
+                return null;
+            default:
+                throw new HttpMessageNotReadableException("Amount must be a number", inputMessage);
+        }
+        // Double.parseDouble accepts "NaN" and "Infinity", which no amount can be
+        if (!Double.isFinite(amount)) {
+            throw new HttpMessageNotReadableException("Amount must be a number", inputMessage);
+        }
+        return amount;
+    }
+
+    private String readCurrency(JsonParser parser, JsonToken value, HttpInputMessage inputMessage) {
+        switch (value) {
+            case VALUE_STRING:
+                return parser.getString();
+            case VALUE_NULL:
+                return null;
+            default:
+                throw new HttpMessageNotReadableException("Currency must be a string", inputMessage);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.ringale.banking_app.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverters;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.ringale.banking_app.ratelimit.AdmissionControlInterceptor;
+import com.ringale.banking_app.ratelimit.RateLimitInterceptor;
+
+/**
+ * Web MVC configuration.
+ * Registers rate limiting ahead of admission control so requests rejected by
+ * a token bucket never take a concurrency slot, and the streaming reader for
+ * amount requests ahead of the default JSON converter. Transfers are limited
+ * per source account by TransferRateLimitAdvice once the body is read, and
+ * long-running admin calls are kept out of the adaptive concurrency limit.
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private RateLimitInterceptor rateLimitInterceptor;
+    private AdmissionControlInterceptor admissionControlInterceptor;
+
+    @Autowired
+    public WebConfig(RateLimitInterceptor rateLimitInterceptor,
+            AdmissionControlInterceptor admissionControlInterceptor) {
+        this.rateLimitInterceptor = rateLimitInterceptor;
+        this.admissionControlInterceptor = admissionControlInterceptor;
+    }
+
+    @Override
+    public void configureMessageConverters(HttpMessageConverters.ServerBuilder builder) {
+        builder.addCustomConverter(new AmountRequestHttpMessageConverter());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(rateLimitInterceptor)
+                .addPathPatterns("/api/accounts/*/deposit", "/api/accounts/*/withdraw",
+                        "/api/accounts/*/holds", "/api/accounts/*/holds/*/capture", "/api/accounts/transfers");
+        registry.addInterceptor(admissionControlInterceptor)
+                .addPathPatterns("/api/**")
+                .excludePathPatterns("/api/accounts/*/stream", "/api/admin/**");
+    }
+}
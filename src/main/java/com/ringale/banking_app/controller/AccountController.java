@@ -1,12 +1,15 @@
 package com.ringale.banking_app.controller;
 
-import java.util.Map;
+import java.util.Optional;
 
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -15,10 +18,18 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.ringale.banking_app.dto.AccountDto;
+import com.ringale.banking_app.dto.AccountLookupDto;
+import com.ringale.banking_app.dto.AccountLookupRequest;
+import com.ringale.banking_app.dto.AmountRequest;
 import com.ringale.banking_app.dto.ApiResponse;
+import com.ringale.banking_app.dto.TransferDto;
+import com.ringale.banking_app.dto.TransferRequest;
 import com.ringale.banking_app.service.AccountService;
+import com.ringale.banking_app.stream.BalanceStreamHub;
 
 /**
  * REST Controller for Account operations.
@@ -30,10 +41,12 @@ public class AccountController {
     
     private static final Logger logger = LoggerFactory.getLogger(AccountController.class);
     private AccountService accountService;
+    private BalanceStreamHub balanceStreamHub;
 
     @Autowired
-    public AccountController(AccountService accountService) {
+    public AccountController(AccountService accountService, BalanceStreamHub balanceStreamHub) {
         this.accountService = accountService;
+        this.balanceStreamHub = balanceStreamHub;
     }
 
     /**
@@ -57,13 +70,29 @@ public class AccountController {
 
     /**
      * Get account by ID
+     * A request with If-None-Match is first answered from the account version
+     * alone, so an unchanged account costs one indexed lookup and an empty 304.
+     * The ETag is weak because the body carries a timestamp and is served in
+     * several formats; it only identifies the account version.
      * 
      * @param id - Account ID
-     * @return Account details with HTTP 200
+     * @param request - Current request, used for conditional GET
+     * @return Account details with HTTP 200 and an ETag, or HTTP 304 if unchanged
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<AccountDto>> getAccountById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<AccountDto>> getAccountById(@PathVariable Long id, WebRequest request) {
         logger.info("Received request to fetch account with ID: {}", id);
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            Optional<Long> version = accountService.getAccountVersion(id);
+            if (version.isPresent() && matches(ifNoneMatch, eTag(id, version.get()))) {
+                logger.info("Account {} not modified", id);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(eTag(id, version.get()))
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .build();
+            }
+        }
         AccountDto account = accountService.getAccountById(id);
         
         ApiResponse<AccountDto> response = ApiResponse.success(
@@ -71,33 +100,57 @@ public class AccountController {
                 "Account retrieved successfully",
                 HttpStatus.OK.value()
         );
+        return ResponseEntity.ok()
+                .eTag(eTag(account.getId(), account.getVersion()))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(response);
+    }
+
+    /**
+     * Get many accounts by ID
+     * 
+     * @param request - Request body containing account IDs
+     * @return Found accounts and missing IDs with HTTP 200
+     */
+    @PostMapping("/lookup")
+    public ResponseEntity<ApiResponse<AccountLookupDto>> lookupAccounts(
+            @Valid @RequestBody AccountLookupRequest request) {
+        logger.info("Received request to look up {} accounts", request.ids().size());
+        AccountLookupDto result = accountService.lookupAccounts(request.ids());
+        
+        ApiResponse<AccountLookupDto> response = ApiResponse.success(
+                result,
+                "Accounts retrieved successfully",
+                HttpStatus.OK.value()
+        );
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
+    /**
+     * Stream balance updates for an account as server-sent events
+     * 
+     * @param id - Account ID
+     * @return Event stream starting with the current balance
+     */
+    @GetMapping(path = "/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamBalance(@PathVariable Long id) {
+        logger.info("Received request to stream balance for account ID: {}", id);
+        return balanceStreamHub.subscribe(id, () -> accountService.getAccountById(id).getBalance());
+    }
+
     /**
      * Deposit amount to account
      * 
      * @param id - Account ID
-     * @param request - Request body containing amount
+     * @param request - Request body containing amount and optional currency
      * @return Updated account with HTTP 200
      */
     @PutMapping("/{id}/deposit")
     public ResponseEntity<ApiResponse<AccountDto>> depositAmount(
             @PathVariable Long id,
-            @RequestBody Map<String, Double> request) {
-        logger.info("Received deposit request for account ID: {} with amount: {}", id, request.get("amount"));
-        
-        Double amount = request.get("amount");
-        if (amount == null) {
-            ApiResponse<AccountDto> response = ApiResponse.error(
-                    "Validation failed",
-                    "Amount is required in request body",
-                    HttpStatus.BAD_REQUEST.value()
-            );
-            return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
-        }
-        
-        AccountDto updatedAccount = accountService.depositAmount(id, amount);
+            @Valid @RequestBody AmountRequest request) {
+        logger.info("Received deposit request for account ID: {} with amount: {}", id, request.amount());
+        AccountDto updatedAccount = accountService.depositAmount(id, request.amount(), request.currency());
         
         ApiResponse<AccountDto> response = ApiResponse.success(
                 updatedAccount,
@@ -111,26 +164,15 @@ public class AccountController {
      * Withdraw amount from account
      * 
      * @param id - Account ID
-     * @param request - Request body containing amount
+     * @param request - Request body containing amount and optional currency
      * @return Updated account with HTTP 200
      */
     @PutMapping("/{id}/withdraw")
     public ResponseEntity<ApiResponse<AccountDto>> withDrawAmount(
             @PathVariable Long id,
-            @RequestBody Map<String, Double> request) {
-        logger.info("Received withdrawal request for account ID: {} with amount: {}", id, request.get("amount"));
-        
-        Double amount = request.get("amount");
-        if (amount == null) {
-            ApiResponse<AccountDto> response = ApiResponse.error(
-                    "Validation failed",
-                    "Amount is required in request body",
-                    HttpStatus.BAD_REQUEST.value()
-            );
-            return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
-        }
-        
-        AccountDto updatedAccount = accountService.withDrawAmount(id, amount);
+            @Valid @RequestBody AmountRequest request) {
+        logger.info("Received withdrawal request for account ID: {} with amount: {}", id, request.amount());
+        AccountDto updatedAccount = accountService.withDrawAmount(id, request.amount(), request.currency());
         
         ApiResponse<AccountDto> response = ApiResponse.success(
                 updatedAccount,
@@ -139,4 +181,39 @@ public class AccountController {
         );
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
+
+    /**
+     * Transfer amount between accounts
+     * 
+     * @param request - Request body containing source, target, amount and optional currency
+     * @return Both accounts and the conversion applied with HTTP 200
+     */
+    @PostMapping("/transfers")
+    public ResponseEntity<ApiResponse<TransferDto>> transfer(@Valid @RequestBody TransferRequest request) {
+        logger.info("Received transfer request from account ID: {} to account ID: {} with amount: {}",
+                request.fromAccountId(), request.toAccountId(), request.amount());
+        TransferDto transfer = accountService.transfer(request.fromAccountId(), request.toAccountId(),
+                request.amount(), request.currency());
+        
+        ApiResponse<TransferDto> response = ApiResponse.success(
+                transfer,
+                "Transfer completed successfully",
+                HttpStatus.OK.value()
+        );
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    private static String eTag(Long id, Long version) {
+        return "W/\"" + id + "-" + version + "\"";
+    }
+
+    private static boolean matches(String ifNoneMatch, String eTag) {
+        ETag current = ETag.create(eTag);
+        for (ETag candidate : ETag.parse(ifNoneMatch)) {
+            if (candidate.isWildcard() || candidate.compare(current, false)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
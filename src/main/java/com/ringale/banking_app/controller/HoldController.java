@@ -0,0 +1,122 @@
+package com.ringale.banking_app.controller;
+
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.ringale.banking_app.dto.AmountRequest;
+import com.ringale.banking_app.dto.ApiResponse;
+import com.ringale.banking_app.dto.HoldDto;
+import com.ringale.banking_app.dto.HoldRequest;
+import com.ringale.banking_app.service.HoldService;
+
+/**
+ * REST Controller for fund holds (authorizations) on an account.
+ */
+@RestController
+@RequestMapping("/api/accounts/{accountId}/holds")
+public class HoldController {
+    
+    private static final Logger logger = LoggerFactory.getLogger(HoldController.class);
+    private HoldService holdService;
+
+    @Autowired
+    public HoldController(HoldService holdService) {
+        this.holdService = holdService;
+    }
+
+    /**
+     * Place a hold on an account
+     * 
+     * @param accountId - Account ID
+     * @param request - Request body containing amount and optional time to live
+     * @return Created hold with HTTP 201
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<HoldDto>> placeHold(
+            @PathVariable Long accountId,
+            @Valid @RequestBody HoldRequest request) {
+        logger.info("Received hold request for account ID: {} with amount: {}", accountId, request.amount());
+        HoldDto hold = holdService.placeHold(accountId, request.amount(), request.ttlSeconds());
+        
+        ApiResponse<HoldDto> response = ApiResponse.success(
+                hold,
+                "Hold placed successfully",
+                HttpStatus.CREATED.value()
+        );
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
+    /**
+     * Get a hold
+     * 
+     * @param accountId - Account ID
+     * @param holdId - Hold ID
+     * @return Hold details with HTTP 200
+     */
+    @GetMapping("/{holdId}")
+    public ResponseEntity<ApiResponse<HoldDto>> getHold(@PathVariable Long accountId, @PathVariable Long holdId) {
+        logger.info("Received request to fetch hold {} on account ID: {}", holdId, accountId);
+        HoldDto hold = holdService.getHold(accountId, holdId);
+        
+        ApiResponse<HoldDto> response = ApiResponse.success(
+                hold,
+                "Hold retrieved successfully",
+                HttpStatus.OK.value()
+        );
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    /**
+     * Capture a hold
+     * 
+     * @param accountId - Account ID
+     * @param holdId - Hold ID
+     * @param request - Optional request body with a partial capture amount
+     * @return Captured hold with HTTP 200
+     */
+    @PostMapping("/{holdId}/capture")
+    public ResponseEntity<ApiResponse<HoldDto>> captureHold(
+            @PathVariable Long accountId,
+            @PathVariable Long holdId,
+            @Valid @RequestBody(required = false) AmountRequest request) {
+        logger.info("Received capture request for hold {} on account ID: {}", holdId, accountId);
+        HoldDto hold = holdService.captureHold(accountId, holdId, request != null ? request.amount() : null);
+        
+        ApiResponse<HoldDto> response = ApiResponse.success(
+                hold,
+                "Hold captured successfully",
+                HttpStatus.OK.value()
+        );
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    /**
+     * Release a hold
+     * 
+     * @param accountId - Account ID
+     * @param holdId - Hold ID
+     * @return Released hold with HTTP 200
+     */
+    @PostMapping("/{holdId}/release")
+    public ResponseEntity<ApiResponse<HoldDto>> releaseHold(@PathVariable Long accountId, @PathVariable Long holdId) {
+        logger.info("Received release request for hold {} on account ID: {}", holdId, accountId);
+        HoldDto hold = holdService.releaseHold(accountId, holdId);
+        
+        ApiResponse<HoldDto> response = ApiResponse.success(
+                hold,
+                "Hold released successfully",
+                HttpStatus.OK.value()
+        );
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+}
@@ -0,0 +1,112 @@
+package com.ringale.banking_app.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.ringale.banking_app.dto.ApiResponse;
+import com.ringale.banking_app.dto.ProfilingStatusDto;
+import com.ringale.banking_app.profiling.ProfilingRecorder;
+
+/**
+ * REST Controller for on-demand JFR recordings of a running node.
+ * Recordings include the account operation and handled exception events,
+ * and are downloaded as a .jfr file for JDK Mission Control or the jfr tool.
+ * Only registered when banking.profiling.enabled is true.
+ */
+@RestController
+@ConditionalOnProperty(name = "banking.profiling.enabled", havingValue = "true")
+@RequestMapping("/api/admin/profiling")
+public class ProfilingController {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ProfilingController.class);
+    private static final String DOWNLOAD_NAME = "banking-app-profile.jfr";
+    private ProfilingRecorder profilingRecorder;
+
+    @Autowired
+    public ProfilingController(ProfilingRecorder profilingRecorder) {
+        this.profilingRecorder = profilingRecorder;
+    }
+
+    /**
+     * Get the state of the current recording
+     * 
+     * @return Recording status with HTTP 200
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<ProfilingStatusDto>> getStatus() {
+        ApiResponse<ProfilingStatusDto> response = ApiResponse.success(
+                profilingRecorder.status(),
+                "Profiling status retrieved successfully",
+                HttpStatus.OK.value()
+        );
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    /**
+     * Start a bounded recording
+     * 
+     * @param durationSeconds - Recording duration, defaults to and is capped at the configured maximum
+     * @return Recording status with HTTP 201
+     */
+    @PostMapping("/start")
+    public ResponseEntity<ApiResponse<ProfilingStatusDto>> start(
+            @RequestParam(required = false) Long durationSeconds) {
+        logger.info("Received request to start profiling for {} seconds", durationSeconds);
+        ProfilingStatusDto status = profilingRecorder.start(durationSeconds);
+        
+        ApiResponse<ProfilingStatusDto> response = ApiResponse.success(
+                status,
+                "Profiling started successfully",
+                HttpStatus.CREATED.value()
+        );
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
+    /**
+     * Stop the recording and download it; the file is deleted once streamed
+     * 
+     * @return Recording file with HTTP 200
+     * @throws IOException - If the recording file cannot be opened
+     */
+    @PostMapping("/stop")
+    public ResponseEntity<Resource> stop() throws IOException {
+        logger.info("Received request to stop profiling");
+        Path file = profilingRecorder.stop();
+        InputStream content;
+        long size;
+        try {
+            size = Files.size(file);
+            content = Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE);
+        } catch (IOException ex) {
+            Files.deleteIfExists(file);
+            throw ex;
+        }
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .contentLength(size)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(DOWNLOAD_NAME).build().toString())
+                .body(new InputStreamResource(content));
+    }
+}
@@ -0,0 +1,134 @@
+package com.ringale.banking_app.controller;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.ringale.banking_app.dto.ApiResponse;
+import com.ringale.banking_app.dto.MerkleTreeDto;
+import com.ringale.banking_app.dto.ReconciliationReportDto;
+import com.ringale.banking_app.dto.RowDigestDto;
+import com.ringale.banking_app.reconciliation.MerkleTreeBuilder;
+import com.ringale.banking_app.reconciliation.ReconciliationService;
+
+/**
+ * REST Controller for reconciling the accounts table between environments.
+ * Two instances compare Merkle tree roots over the same ID range and drill
+ * down only into leaves whose hashes differ. Row hashes
+ * ({@code AccountDigestRepository.ROW_HASH}) cover balance, held balance,
+ * version and currency but not account_owner, so a difference in the owner
+ * alone is never reported. The endpoints are unauthenticated and call peers,
+ * so they are only registered when banking.reconciliation.enabled is true.
+ */
+@RestController
+@ConditionalOnProperty(name = "banking.reconciliation.enabled", havingValue = "true")
+@RequestMapping("/api/admin/reconciliation")
+public class ReconciliationController {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ReconciliationController.class);
+    private ReconciliationService reconciliationService;
+    private MerkleTreeBuilder merkleTreeBuilder;
+
+    @Autowired
+    public ReconciliationController(ReconciliationService reconciliationService,
+            MerkleTreeBuilder merkleTreeBuilder) {
+        this.reconciliationService = reconciliationService;
+        this.merkleTreeBuilder = merkleTreeBuilder;
+    }
+
+    /**
+     * Get the highest account ID, to agree on a range with a peer
+     * 
+     * @return Highest ID in the accounts or archive table with HTTP 200
+     */
+    @GetMapping("/max-id")
+    public ResponseEntity<ApiResponse<Long>> getMaxId() {
+        ApiResponse<Long> response = ApiResponse.success(
+                merkleTreeBuilder.maxId(),
+                "Highest account ID retrieved successfully",
+                HttpStatus.OK.value()
+        );
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    /**
+     * Get the Merkle tree over an ID range
+     * 
+     * @param fromId - First ID, defaults to 1
+     * @param toId - Last ID, inclusive, defaults to the highest ID
+     * @param leaves - Number of leaves, defaults to the configured fan-out
+     * @return Root hash and leaf digests with HTTP 200
+     */
+    @GetMapping("/tree")
+    public ResponseEntity<ApiResponse<MerkleTreeDto>> getTree(
+            @RequestParam(required = false) Long fromId,
+            @RequestParam(required = false) Long toId,
+            @RequestParam(required = false) Integer leaves) {
+        logger.info("Received Merkle tree request for IDs {} to {} with {} leaves", fromId, toId, leaves);
+        MerkleTreeDto tree = reconciliationService.tree(fromId, toId, leaves);
+        
+        ApiResponse<MerkleTreeDto> response = ApiResponse.success(
+                tree,
+                "Merkle tree computed successfully",
+                HttpStatus.OK.value()
+        );
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    /**
+     * Get the hash of every account in a small ID range
+     * 
+     * @param fromId - First ID
+     * @param toId - Last ID, inclusive
+     * @return Row hashes in ID order with HTTP 200
+     */
+    @GetMapping("/rows")
+    public ResponseEntity<ApiResponse<List<RowDigestDto>>> getRows(
+            @RequestParam long fromId,
+            @RequestParam long toId) {
+        List<RowDigestDto> rows = merkleTreeBuilder.rowDigests(fromId, toId);
+        
+        ApiResponse<List<RowDigestDto>> response = ApiResponse.success(
+                rows,
+                "Row digests computed successfully",
+                HttpStatus.OK.value()
+        );
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    /**
+     * Compare the accounts table with a configured peer
+     * 
+     * @param peer - Peer base URL, e.g. http://dr-banking:8080
+     * @param fromId - First ID, defaults to 1
+     * @param toId - Last ID, inclusive, defaults to the highest ID on either side
+     * @param leaves - Leaves per tree, defaults to the configured fan-out
+     * @return Reconciliation report with HTTP 200
+     */
+    @PostMapping("/compare")
+    public ResponseEntity<ApiResponse<ReconciliationReportDto>> compare(
+            @RequestParam String peer,
+            @RequestParam(required = false) Long fromId,
+            @RequestParam(required = false) Long toId,
+            @RequestParam(required = false) Integer leaves) {
+        logger.info("Received reconciliation request against {}", peer);
+        ReconciliationReportDto report = reconciliationService.compare(peer, fromId, toId, leaves);
+        
+        ApiResponse<ReconciliationReportDto> response = ApiResponse.success(
+                report,
+                report.isConsistent() ? "Accounts are consistent with peer" : "Accounts differ from peer",
+                HttpStatus.OK.value()
+        );
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+}
@@ -1,8 +1,11 @@
 package com.ringale.banking_app.dto;
 
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -13,6 +16,7 @@ import lombok.NoArgsConstructor;
  */
 @Data
 @AllArgsConstructor
+@JsonPropertyOrder({"id", "accountOwner", "currency", "balance", "heldBalance", "availableBalance", "version"})
 @NoArgsConstructor
 public class AccountDto {
     
@@ -21,7 +25,23 @@ public class AccountDto {
     @NotBlank(message = "Account owner name is required")
     private String accountOwner;
     
+    @Pattern(regexp = "[A-Z]{3}", message = "Currency must be an ISO 4217 code")
+    private String currency;
+    
     @NotNull(message = "Balance is required")
     @Min(value = 0, message = "Balance cannot be negative")
     private double balance;
+    
+    private double heldBalance;
+    
+    private double availableBalance;
+    
+    private Long version;
+    
+    public AccountDto(Long id, String accountOwner, double balance) {
+        this.id = id;
+        this.accountOwner = accountOwner;
+        this.balance = balance;
+        this.availableBalance = balance;
+    }
 }
@@ -0,0 +1,22 @@
+package com.ringale.banking_app.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of a multi-account lookup.
+ * Accounts are keyed by ID; IDs without an account are listed separately.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AccountLookupDto {
+    
+    private Map<Long, AccountDto> accounts;
+    
+    private List<Long> notFound;
+}
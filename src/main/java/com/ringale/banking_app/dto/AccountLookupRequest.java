@@ -0,0 +1,16 @@
+package com.ringale.banking_app.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Request body for looking up many accounts at once.
+ */
+public record AccountLookupRequest(
+        @NotEmpty(message = "At least one account ID is required")
+        @Size(max = 1000, message = "At most 1000 account IDs can be looked up per request")
+        List<@NotNull(message = "Account IDs cannot be null") Long> ids) {
+}
@@ -0,0 +1,21 @@
+package com.ringale.banking_app.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Request body for deposit and withdrawal operations.
+ * The currency is optional; when given it must match the account currency.
+ */
+public record AmountRequest(
+        @NotNull(message = "Amount is required in request body")
+        @Positive(message = "Amount must be positive")
+        Double amount,
+        @Pattern(regexp = "[A-Z]{3}", message = "Currency must be an ISO 4217 code")
+        String currency) {
+
+    public AmountRequest(Double amount) {
+        this(amount, null);
+    }
+}
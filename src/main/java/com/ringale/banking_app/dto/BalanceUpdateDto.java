@@ -0,0 +1,18 @@
+package com.ringale.banking_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Balance update pushed to streaming subscribers.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BalanceUpdateDto {
+    
+    private Long accountId;
+    
+    private double balance;
+}
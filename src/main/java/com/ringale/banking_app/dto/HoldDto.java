@@ -0,0 +1,30 @@
+package com.ringale.banking_app.dto;
+
+import java.time.LocalDateTime;
+
+import com.ringale.banking_app.entity.HoldStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for a fund hold.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class HoldDto {
+    
+    private Long id;
+    
+    private Long accountId;
+    
+    private double amount;
+    
+    private Double capturedAmount;
+    
+    private HoldStatus status;
+    
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,16 @@
+package com.ringale.banking_app.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Request body for placing a hold.
+ * The time to live defaults to the configured hold lifetime when omitted.
+ */
+public record HoldRequest(
+        @NotNull(message = "Amount is required in request body")
+        @Positive(message = "Amount must be positive")
+        Double amount,
+        @Positive(message = "Time to live must be positive")
+        Long ttlSeconds) {
+}
@@ -0,0 +1,24 @@
+package com.ringale.banking_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Leaf of an accounts Merkle tree: the digest of one inclusive ID range.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MerkleLeafDto {
+    
+    private long fromId;
+    
+    private long toId;
+    
+    private long count;
+    
+    private long balanceCents;
+    
+    private String hash;
+}
@@ -0,0 +1,26 @@
+package com.ringale.banking_app.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Merkle tree over an inclusive ID range of the accounts table.
+ * Two trees built for the same range and leaf count have equal roots only
+ * if every leaf matches; differing leaves point at the ranges to drill into.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MerkleTreeDto {
+    
+    private long fromId;
+    
+    private long toId;
+    
+    private String root;
+    
+    private List<MerkleLeafDto> leaves;
+}
@@ -0,0 +1,26 @@
+package com.ringale.banking_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * State of the on-demand JFR recording.
+ * A recording stops by itself once durationSeconds have passed; its
+ * data is kept until it is stopped through the API and downloaded.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProfilingStatusDto {
+    
+    private boolean recording;
+    
+    private String state;
+    
+    private Long startedAt;
+    
+    private long durationSeconds;
+    
+    private long maxSizeBytes;
+}
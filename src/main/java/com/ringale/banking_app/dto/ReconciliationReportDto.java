@@ -0,0 +1,41 @@
+package com.ringale.banking_app.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of reconciling the accounts table with a peer instance.
+ * Lists accounts that differ, exist only on this instance or only on the
+ * peer, and how much work the drill-down took.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReconciliationReportDto {
+    
+    private String peer;
+    
+    private long fromId;
+    
+    private long toId;
+    
+    private boolean consistent;
+    
+    private List<Long> mismatched;
+    
+    private List<Long> missingLocally;
+    
+    private List<Long> missingOnPeer;
+    
+    private int treesCompared;
+    
+    private long rowsCompared;
+    
+    /**
+     * True when the report stopped at the configured maximum number of differences
+     */
+    private boolean truncated;
+}
@@ -0,0 +1,18 @@
+package com.ringale.banking_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Hash of a single account row, for comparing a small ID range row by row.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RowDigestDto {
+    
+    private long id;
+    
+    private long hash;
+}
@@ -0,0 +1,28 @@
+package com.ringale.banking_app.dto;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for a completed transfer.
+ * The debited amount is in the source currency, the credited amount in the
+ * target currency, converted at the given exchange rate.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TransferDto {
+    
+    private AccountDto fromAccount;
+    
+    private AccountDto toAccount;
+    
+    private double debitedAmount;
+    
+    private double creditedAmount;
+    
+    private BigDecimal exchangeRate;
+}
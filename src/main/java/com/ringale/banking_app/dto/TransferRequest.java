@@ -0,0 +1,22 @@
+package com.ringale.banking_app.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Request body for a transfer between two accounts.
+ * The amount is debited in the source account currency; the currency is
+ * optional and, when given, must match the source account.
+ */
+public record TransferRequest(
+        @NotNull(message = "Source account ID is required")
+        Long fromAccountId,
+        @NotNull(message = "Target account ID is required")
+        Long toAccountId,
+        @NotNull(message = "Amount is required in request body")
+        @Positive(message = "Amount must be positive")
+        Double amount,
+        @Pattern(regexp = "[A-Z]{3}", message = "Currency must be an ISO 4217 code")
+        String currency) {
+}
@@ -6,10 +6,12 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -17,6 +19,9 @@ import java.time.LocalDateTime;
 
 /**
  * Account entity representing a bank account.
+ * The balance is the ledger balance in the account currency; heldBalance is
+ * the part reserved by active fund holds. The version is incremented on every
+ * update and serves both optimistic locking and account ETags.
  * Includes audit fields for tracking creation and update timestamps.
  */
 @Entity
@@ -34,8 +39,20 @@ public class Account {
     @Column(name = "account_owner", nullable = false)
     private String accountOwner;
 
+    @ColumnDefault("'USD'")
+    @Column(nullable = false, length = 3)
+    private String currency = "USD";
+
     @Column(nullable = false)
     private double balance;
+
+    @Column(name = "held_balance", nullable = false)
+    private double heldBalance;
+    
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
     
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -44,4 +61,11 @@ public class Account {
     @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+
+    /**
+     * Ledger balance minus funds reserved by active holds
+     */
+    public double getAvailableBalance() {
+        return balance - heldBalance;
+    }
 }
@@ -0,0 +1,16 @@
+package com.ringale.banking_app.entity;
+
+/**
+ * Types of balance-affecting events recorded in the outbox.
+ */
+public enum AccountEventType {
+    ACCOUNT_CREATED,
+    DEPOSITED,
+    WITHDRAWN,
+    TRANSFERRED_OUT,
+    TRANSFERRED_IN,
+    HOLD_PLACED,
+    HOLD_CAPTURED,
+    HOLD_RELEASED,
+    HOLD_EXPIRED
+}
@@ -0,0 +1,53 @@
+package com.ringale.banking_app.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Dormant account moved out of the accounts table.
+ * Mirrors {@link Account} column for column and keeps the original ID; rows
+ * are written and restored with bulk statements, never through this entity.
+ */
+@Entity
+@Table(name = "accounts_archive")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedAccount {
+
+    @Id
+    private Long id;
+
+    @Column(name = "account_owner", nullable = false)
+    private String accountOwner;
+
+    @Column(nullable = false, length = 3)
+    private String currency;
+
+    @Column(nullable = false)
+    private double balance;
+
+    @Column(name = "held_balance", nullable = false)
+    private double heldBalance;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,11 @@
+package com.ringale.banking_app.entity;
+
+/**
+ * Lifecycle states of a fund hold.
+ */
+public enum HoldStatus {
+    ACTIVE,
+    CAPTURED,
+    RELEASED,
+    EXPIRED
+}
@@ -0,0 +1,14 @@
+package com.ringale.banking_app.exception;
+
+/**
+ * Exception thrown when the currency of a request does not match the account currency.
+ */
+public class CurrencyMismatchException extends RuntimeException {
+    public CurrencyMismatchException(String message) {
+        super(message);
+    }
+
+    public CurrencyMismatchException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,14 @@
+package com.ringale.banking_app.exception;
+
+/**
+ * Exception thrown when no usable exchange rate is available for a currency pair.
+ */
+public class FxRateUnavailableException extends RuntimeException {
+    public FxRateUnavailableException(String message) {
+        super(message);
+    }
+
+    public FxRateUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -2,18 +2,23 @@ package com.ringale.banking_app.exception;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
 
 import com.ringale.banking_app.dto.ApiResponse;
+import com.ringale.banking_app.profiling.HandledExceptionEvent;
 
 /**
  * Global exception handler for the entire application.
  * Handles custom exceptions and provides standardized error responses.
+ * Handled exceptions are also recorded as JFR events while a recording is running.
  */
 @ControllerAdvice
 public class GlobalExceptionHandler {
@@ -28,6 +33,7 @@ public class GlobalExceptionHandler {
             AccountNotFoundException ex, WebRequest request) {
         logger.warn("Account not found: {}", ex.getMessage());
         
+        HandledExceptionEvent.emit(ex, HttpStatus.NOT_FOUND.value());
         ApiResponse<?> response = ApiResponse.error(
                 "Account not found",
                 ex.getMessage(),
@@ -44,6 +50,7 @@ public class GlobalExceptionHandler {
             InsufficientBalanceException ex, WebRequest request) {
         logger.warn("Insufficient balance: {}", ex.getMessage());
         
+        HandledExceptionEvent.emit(ex, HttpStatus.BAD_REQUEST.value());
         ApiResponse<?> response = ApiResponse.error(
                 "Insufficient balance",
                 ex.getMessage(),
@@ -60,6 +67,7 @@ public class GlobalExceptionHandler {
             InvalidAccountException ex, WebRequest request) {
         logger.warn("Invalid account: {}", ex.getMessage());
         
+        HandledExceptionEvent.emit(ex, HttpStatus.BAD_REQUEST.value());
         ApiResponse<?> response = ApiResponse.error(
                 "Invalid account data",
                 ex.getMessage(),
@@ -68,6 +76,195 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
     
+    /**
+     * Handle CurrencyMismatchException
+     */
+    @ExceptionHandler(CurrencyMismatchException.class)
+    public ResponseEntity<ApiResponse<?>> handleCurrencyMismatchException(
+            CurrencyMismatchException ex, WebRequest request) {
+        logger.warn("Currency mismatch: {}", ex.getMessage());
+        
+        HandledExceptionEvent.emit(ex, HttpStatus.BAD_REQUEST.value());
+        ApiResponse<?> response = ApiResponse.error(
+                "Currency mismatch",
+                ex.getMessage(),
+                HttpStatus.BAD_REQUEST.value()
+        );
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+    
+    /**
+     * Handle FxRateUnavailableException
+     */
+    @ExceptionHandler(FxRateUnavailableException.class)
+    public ResponseEntity<ApiResponse<?>> handleFxRateUnavailableException(
+            FxRateUnavailableException ex, WebRequest request) {
+        logger.error("Exchange rate unavailable: {}", ex.getMessage());
+        
+        HandledExceptionEvent.emit(ex, HttpStatus.SERVICE_UNAVAILABLE.value());
+        ApiResponse<?> response = ApiResponse.error(
+                "Exchange rate unavailable",
+                ex.getMessage(),
+                HttpStatus.SERVICE_UNAVAILABLE.value()
+        );
+        return new ResponseEntity<>(response, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+    
+    /**
+     * Handle VelocityLimitExceededException
+     */
+    @ExceptionHandler(VelocityLimitExceededException.class)
+    public ResponseEntity<ApiResponse<?>> handleVelocityLimitExceededException(
+            VelocityLimitExceededException ex, WebRequest request) {
+        logger.warn("Velocity limit exceeded: {}", ex.getMessage());
+        
+        HandledExceptionEvent.emit(ex, HttpStatus.TOO_MANY_REQUESTS.value());
+        ApiResponse<?> response = ApiResponse.error(
+                "Withdrawal limit exceeded",
+                ex.getMessage(),
+                HttpStatus.TOO_MANY_REQUESTS.value()
+        );
+        return new ResponseEntity<>(response, HttpStatus.TOO_MANY_REQUESTS);
+    }
+    
+    /**
+     * Handle HoldNotFoundException
+     */
+    @ExceptionHandler(HoldNotFoundException.class)
+    public ResponseEntity<ApiResponse<?>> handleHoldNotFoundException(
+            HoldNotFoundException ex, WebRequest request) {
+        logger.warn("Hold not found: {}", ex.getMessage());
+        
+        HandledExceptionEvent.emit(ex, HttpStatus.NOT_FOUND.value());
+        ApiResponse<?> response = ApiResponse.error(
+                "Hold not found",
+                ex.getMessage(),
+                HttpStatus.NOT_FOUND.value()
+        );
+        return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
+    }
+    
+    /**
+     * Handle InvalidHoldStateException
+     */
+    @ExceptionHandler(InvalidHoldStateException.class)
+    public ResponseEntity<ApiResponse<?>> handleInvalidHoldStateException(
+            InvalidHoldStateException ex, WebRequest request) {
+        logger.warn("Invalid hold state: {}", ex.getMessage());
+        
+        HandledExceptionEvent.emit(ex, HttpStatus.CONFLICT.value());
+        ApiResponse<?> response = ApiResponse.error(
+                "Invalid hold state",
+                ex.getMessage(),
+                HttpStatus.CONFLICT.value()
+        );
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
+    
+    /**
+     * Handle ObjectOptimisticLockingFailureException
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<?>> handleOptimisticLockingFailure(
+            ObjectOptimisticLockingFailureException ex, WebRequest request) {
+        logger.warn("Concurrent modification: {}", ex.getMessage());
+        
+        HandledExceptionEvent.emit(ex, HttpStatus.CONFLICT.value());
+        ApiResponse<?> response = ApiResponse.error(
+                "Concurrent modification",
+                "The account was modified by another request, please retry",
+                HttpStatus.CONFLICT.value()
+        );
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
+    
+    /**
+     * Handle SubscriberLimitExceededException
+     */
+    @ExceptionHandler(SubscriberLimitExceededException.class)
+    public ResponseEntity<ApiResponse<?>> handleSubscriberLimitExceededException(
+            SubscriberLimitExceededException ex, WebRequest request) {
+        logger.warn("Subscriber limit exceeded: {}", ex.getMessage());
+        
+        HandledExceptionEvent.emit(ex, HttpStatus.SERVICE_UNAVAILABLE.value());
+        ApiResponse<?> response = ApiResponse.error(
+                "Service unavailable",
+                ex.getMessage(),
+                HttpStatus.SERVICE_UNAVAILABLE.value()
+        );
+        return new ResponseEntity<>(response, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+    
+    /**
+     * Handle RateLimitExceededException
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ApiResponse<?>> handleRateLimitExceededException(
+            RateLimitExceededException ex, WebRequest request) {
+        logger.warn("Request rejected: {}", ex.getMessage());
+        
+        HandledExceptionEvent.emit(ex, HttpStatus.TOO_MANY_REQUESTS.value());
+        ApiResponse<?> response = ApiResponse.error(
+                "Too many requests",
+                ex.getMessage(),
+                HttpStatus.TOO_MANY_REQUESTS.value()
+        );
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
+    
+    /**
+     * Handle InvalidReconciliationRequestException
+     */
+    @ExceptionHandler(InvalidReconciliationRequestException.class)
+    public ResponseEntity<ApiResponse<?>> handleInvalidReconciliationRequestException(
+            InvalidReconciliationRequestException ex, WebRequest request) {
+        logger.warn("Invalid reconciliation request: {}", ex.getMessage());
+        
+        HandledExceptionEvent.emit(ex, HttpStatus.BAD_REQUEST.value());
+        ApiResponse<?> response = ApiResponse.error(
+                "Invalid reconciliation request",
+                ex.getMessage(),
+                HttpStatus.BAD_REQUEST.value()
+        );
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+    
+    /**
+     * Handle ReconciliationPeerException
+     */
+    @ExceptionHandler(ReconciliationPeerException.class)
+    public ResponseEntity<ApiResponse<?>> handleReconciliationPeerException(
+            ReconciliationPeerException ex, WebRequest request) {
+        logger.warn("Reconciliation peer failed: {}", ex.getMessage());
+        
+        HandledExceptionEvent.emit(ex, HttpStatus.BAD_GATEWAY.value());
+        ApiResponse<?> response = ApiResponse.error(
+                "Reconciliation peer unavailable",
+                ex.getMessage(),
+                HttpStatus.BAD_GATEWAY.value()
+        );
+        return new ResponseEntity<>(response, HttpStatus.BAD_GATEWAY);
+    }
+    
+    /**
+     * Handle ProfilingStateException
+     */
+    @ExceptionHandler(ProfilingStateException.class)
+    public ResponseEntity<ApiResponse<?>> handleProfilingStateException(
+            ProfilingStateException ex, WebRequest request) {
+        logger.warn("Profiling state conflict: {}", ex.getMessage());
+        
+        HandledExceptionEvent.emit(ex, HttpStatus.CONFLICT.value());
+        ApiResponse<?> response = ApiResponse.error(
+                "Profiling state conflict",
+                ex.getMessage(),
+                HttpStatus.CONFLICT.value()
+        );
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
+    
     /**
      * Handle validation errors from @Valid annotation
      */
@@ -81,6 +278,7 @@ public class GlobalExceptionHandler {
                 errors.append(error.getDefaultMessage()).append("; ")
         );
         
+        HandledExceptionEvent.emit(ex, HttpStatus.BAD_REQUEST.value());
         ApiResponse<?> response = ApiResponse.error(
                 "Validation failed",
                 errors.toString(),
@@ -89,6 +287,23 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
     
+    /**
+     * Handle request bodies that cannot be parsed
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ApiResponse<?>> handleHttpMessageNotReadableException(
+            HttpMessageNotReadableException ex, WebRequest request) {
+        logger.warn("Unreadable request body: {}", ex.getMessage());
+        
+        HandledExceptionEvent.emit(ex, HttpStatus.BAD_REQUEST.value());
+        ApiResponse<?> response = ApiResponse.error(
+                "Malformed request body",
+                ex.getMessage(),
+                HttpStatus.BAD_REQUEST.value()
+        );
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+    
     /**
      * Handle all other exceptions
      */
@@ -97,6 +312,7 @@ public class GlobalExceptionHandler {
             Exception ex, WebRequest request) {
         logger.error("An unexpected error occurred", ex);
         
+        HandledExceptionEvent.emit(ex, HttpStatus.INTERNAL_SERVER_ERROR.value());
         ApiResponse<?> response = ApiResponse.error(
                 "An unexpected error occurred",
                 ex.getMessage(),
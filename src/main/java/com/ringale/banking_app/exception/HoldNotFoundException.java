@@ -0,0 +1,14 @@
+package com.ringale.banking_app.exception;
+
+/**
+ * Exception thrown when a fund hold is not found for an account.
+ */
+public class HoldNotFoundException extends RuntimeException {
+    public HoldNotFoundException(String message) {
+        super(message);
+    }
+
+    public HoldNotFoundException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,14 @@
+package com.ringale.banking_app.exception;
+
+/**
+ * Exception thrown when a hold operation is not allowed in the hold's current state.
+ */
+public class InvalidHoldStateException extends RuntimeException {
+    public InvalidHoldStateException(String message) {
+        super(message);
+    }
+
+    public InvalidHoldStateException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
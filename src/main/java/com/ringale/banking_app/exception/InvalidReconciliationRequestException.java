@@ -0,0 +1,14 @@
+package com.ringale.banking_app.exception;
+
+/**
+ * Exception thrown when a reconciliation range, leaf count or peer is not allowed.
+ */
+public class InvalidReconciliationRequestException extends RuntimeException {
+    public InvalidReconciliationRequestException(String message) {
+        super(message);
+    }
+
+    public InvalidReconciliationRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,14 @@
+package com.ringale.banking_app.exception;
+
+/**
+ * Exception thrown when a profiling recording cannot be started or stopped in its current state.
+ */
+public class ProfilingStateException extends RuntimeException {
+    public ProfilingStateException(String message) {
+        super(message);
+    }
+
+    public ProfilingStateException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
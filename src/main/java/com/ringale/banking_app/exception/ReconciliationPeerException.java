@@ -0,0 +1,14 @@
+package com.ringale.banking_app.exception;
+
+/**
+ * Exception thrown when a reconciliation peer cannot be reached or returns an unusable response.
+ */
+public class ReconciliationPeerException extends RuntimeException {
+    public ReconciliationPeerException(String message) {
+        super(message);
+    }
+
+    public ReconciliationPeerException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
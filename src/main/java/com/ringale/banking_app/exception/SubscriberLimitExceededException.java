@@ -0,0 +1,14 @@
+package com.ringale.banking_app.exception;
+
+/**
+ * Exception thrown when a node cannot accept more balance stream subscribers.
+ */
+public class SubscriberLimitExceededException extends RuntimeException {
+    public SubscriberLimitExceededException(String message) {
+        super(message);
+    }
+
+    public SubscriberLimitExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
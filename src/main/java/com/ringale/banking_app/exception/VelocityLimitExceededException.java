@@ -0,0 +1,14 @@
+package com.ringale.banking_app.exception;
+
+/**
+ * Exception thrown when a withdrawal breaks a per-account velocity rule.
+ */
+public class VelocityLimitExceededException extends RuntimeException {
+    public VelocityLimitExceededException(String message) {
+        super(message);
+    }
+
+    public VelocityLimitExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,47 @@
+package com.ringale.banking_app.fx;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads rates from a properties file with one CODE=rate entry per currency.
+ * The file is re-read on every refresh, so it can be replaced while running.
+ */
+@Component
+@ConditionalOnProperty(name = "banking.fx.source", havingValue = "file")
+public class FileFxRateSource implements FxRateSource {
+
+    private final Path path;
+
+    public FileFxRateSource(@Value("${banking.fx.file.path:fx-rates.properties}") String path) {
+        this.path = Path.of(path);
+    }
+
+    @Override
+    public Map<String, BigDecimal> fetchRates() throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        Map<String, BigDecimal> rates = new HashMap<>();
+        for (String currency : properties.stringPropertyNames()) {
+            try {
+                rates.put(currency.trim(), new BigDecimal(properties.getProperty(currency).trim()));
+            } catch (NumberFormatException ex) {
+                throw new IOException("Invalid rate for " + currency + " in " + path, ex);
+            }
+        }
+        return rates;
+    }
+}
@@ -0,0 +1,12 @@
+package com.ringale.banking_app.fx;
+
+import java.math.BigDecimal;
+
+/**
+ * Result of converting an amount between currencies.
+ * 
+ * @param rate - Units of the target currency per unit of the source currency
+ * @param amount - Converted amount, rounded to the target currency's minor unit
+ */
+public record FxConversion(BigDecimal rate, double amount) {
+}
@@ -0,0 +1,140 @@
+package com.ringale.banking_app.fx;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ringale.banking_app.exception.FxRateUnavailableException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Caches exchange rates from the configured {@link FxRateSource}.
+ * A refresh builds a new immutable snapshot and swaps it in with one volatile
+ * write, so conversions never lock or wait for a refresh in progress. A failed
+ * refresh keeps the previous snapshot until it is older than the maximum age,
+ * after which conversions are refused rather than priced on stale rates.
+ */
+@Component
+public class FxRateCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(FxRateCache.class);
+
+    private final FxRateSource source;
+    private final String baseCurrency;
+    private final long maxAgeMs;
+    private final LongSupplier clock;
+    private final Counter refreshFailures;
+    private volatile FxRateSnapshot snapshot;
+
+    @Autowired
+    public FxRateCache(FxRateSource source, MeterRegistry meterRegistry,
+            @Value("${banking.fx.base-currency:USD}") String baseCurrency,
+            @Value("${banking.fx.max-age-ms:3600000}") long maxAgeMs) {
+        this(source, meterRegistry, baseCurrency, maxAgeMs, System::currentTimeMillis);
+    }
+
+    FxRateCache(FxRateSource source, MeterRegistry meterRegistry, String baseCurrency, long maxAgeMs,
+            LongSupplier clock) {
+        this.source = source;
+        this.baseCurrency = baseCurrency;
+        this.maxAgeMs = maxAgeMs;
+        this.clock = clock;
+        this.refreshFailures = Counter.builder("banking.fx.refresh.failures").register(meterRegistry);
+        Gauge.builder("banking.fx.snapshot.age", this, FxRateCache::snapshotAgeSeconds)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        refresh();
+    }
+
+    /**
+     * Fetch rates from the source and publish them as the new snapshot
+     */
+    @Scheduled(initialDelayString = "${banking.fx.refresh-interval-ms:60000}",
+            fixedDelayString = "${banking.fx.refresh-interval-ms:60000}")
+    public void refresh() {
+        try {
+            snapshot = FxRateSnapshot.of(baseCurrency, source.fetchRates(), clock.getAsLong());
+            logger.debug("Loaded {} exchange rates", snapshot.rates().size());
+        } catch (Exception ex) {
+            refreshFailures.increment();
+            logger.warn("Exchange rate refresh failed, keeping previous rates: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Convert an amount between currencies at the current rate
+     * 
+     * @param amount - Amount in the source currency
+     * @param from - Source currency code
+     * @param to - Target currency code
+     * @return Rate used and the converted amount
+     * @throws FxRateUnavailableException - If no fresh rate exists for the pair
+     */
+    public FxConversion convert(double amount, String from, String to) {
+        if (from.equals(to)) {
+            return new FxConversion(BigDecimal.ONE, amount);
+        }
+        BigDecimal rate = rate(from, to);
+        BigDecimal converted = BigDecimal.valueOf(amount).multiply(rate)
+                .setScale(minorUnits(to), RoundingMode.HALF_EVEN);
+        return new FxConversion(rate, converted.doubleValue());
+    }
+
+    /**
+     * Convert an amount into the base currency, so amounts in different
+     * currencies can be compared and added up
+     * 
+     * @param amount - Amount in the source currency
+     * @param from - Source currency code
+     * @return Amount in the base currency
+     * @throws FxRateUnavailableException - If no fresh rate exists for the pair
+     */
+    public double toBaseCurrency(double amount, String from) {
+        return convert(amount, from, baseCurrency).amount();
+    }
+
+    /**
+     * Current rate converting one unit of from into units of to
+     * 
+     * @throws FxRateUnavailableException - If no fresh rate exists for the pair
+     */
+    public BigDecimal rate(String from, String to) {
+        FxRateSnapshot current = snapshot;
+        if (current == null) {
+            throw new FxRateUnavailableException("Exchange rates have not been loaded");
+        }
+        if (clock.getAsLong() - current.fetchedAtMs() > maxAgeMs) {
+            throw new FxRateUnavailableException("Exchange rates are stale");
+        }
+        BigDecimal rate = current.rate(from, to);
+        if (rate == null) {
+            throw new FxRateUnavailableException("No exchange rate from " + from + " to " + to);
+        }
+        return rate;
+    }
+
+    private double snapshotAgeSeconds() {
+        FxRateSnapshot current = snapshot;
+        return current == null ? Double.NaN : (clock.getAsLong() - current.fetchedAtMs()) / 1000.0;
+    }
+
+    private static int minorUnits(String currency) {
+        try {
+            int digits = Currency.getInstance(currency).getDefaultFractionDigits();
+            return digits < 0 ? 2 : digits;
+        } catch (IllegalArgumentException ex) {
+            return 2;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.ringale.banking_app.fx;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable set of rates fetched at one point in time.
+ * Rates are units of each currency per one unit of the base currency, so the
+ * cross rate from A to B is rate(B) / rate(A).
+ */
+record FxRateSnapshot(Map<String, BigDecimal> rates, long fetchedAtMs) {
+
+    static FxRateSnapshot of(String baseCurrency, Map<String, BigDecimal> fetched, long fetchedAtMs) {
+        Map<String, BigDecimal> rates = new HashMap<>(fetched);
+        rates.putIfAbsent(baseCurrency, BigDecimal.ONE);
+        rates.forEach((currency, rate) -> {
+            if (rate == null || rate.signum() <= 0) {
+                throw new IllegalArgumentException("Invalid rate for " + currency + ": " + rate);
+            }
+        });
+        return new FxRateSnapshot(Map.copyOf(rates), fetchedAtMs);
+    }
+
+    /**
+     * Rate converting one unit of from into units of to, or null if either currency is unknown
+     */
+    BigDecimal rate(String from, String to) {
+        BigDecimal fromRate = rates.get(from);
+        BigDecimal toRate = rates.get(to);
+        if (fromRate == null || toRate == null) {
+            return null;
+        }
+        return toRate.divide(fromRate, MathContext.DECIMAL64);
+    }
+}
@@ -0,0 +1,17 @@
+package com.ringale.banking_app.fx;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Source of exchange rates polled by {@link FxRateCache}.
+ * Rates are quoted as units of each currency per one unit of the base currency.
+ */
+public interface FxRateSource {
+
+    /**
+     * Fetch the current rates keyed by ISO 4217 currency code
+     */
+    Map<String, BigDecimal> fetchRates() throws IOException;
+}
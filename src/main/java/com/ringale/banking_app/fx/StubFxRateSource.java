@@ -0,0 +1,28 @@
+package com.ringale.banking_app.fx;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fixed USD-based rates for local development and tests.
+ */
+@Component
+@ConditionalOnProperty(name = "banking.fx.source", havingValue = "stub", matchIfMissing = true)
+public class StubFxRateSource implements FxRateSource {
+
+    private static final Map<String, BigDecimal> RATES = Map.of(
+            "USD", BigDecimal.ONE,
+            "EUR", new BigDecimal("0.92"),
+            "GBP", new BigDecimal("0.79"),
+            "JPY", new BigDecimal("150.25"),
+            "INR", new BigDecimal("83.10"),
+            "CAD", new BigDecimal("1.36"));
+
+    @Override
+    public Map<String, BigDecimal> fetchRates() {
+        return RATES;
+    }
+}
@@ -0,0 +1,129 @@
+package com.ringale.banking_app.hold;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel for large numbers of timeouts.
+ * Level 0 has one slot per tick; each higher level has slots covering a full
+ * revolution of the level below. Scheduling is O(1), and entries move down
+ * one level at a time as their deadline approaches (cascading), so advancing
+ * the clock only touches slots that are actually due.
+ * Deadlines beyond the wheel's range are parked in the top level and
+ * re-checked when they cascade.
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 5;
+
+    private final long tickMs;
+    private final long startMs;
+    private final List<Entry<T>>[][] wheels;
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMs, long startMs) {
+        if (tickMs <= 0) {
+            throw new IllegalArgumentException("Tick must be positive");
+        }
+        this.tickMs = tickMs;
+        this.startMs = startMs;
+        this.wheels = new List[LEVELS][SLOTS];
+    }
+
+    /**
+     * Schedule an item
+     * 
+     * @param item - Item to return when due
+     * @param deadlineMs - Epoch millis at which the item is due
+     * @return false if the deadline has already passed; the item is not scheduled
+     */
+    public synchronized boolean schedule(T item, long deadlineMs) {
+        long deadlineTick = Math.floorDiv(deadlineMs - startMs + tickMs - 1, tickMs);
+        if (deadlineTick <= currentTick) {
+            return false;
+        }
+        place(new Entry<>(item, deadlineTick));
+        size++;
+        return true;
+    }
+
+    /**
+     * Move the clock forward and collect everything that became due
+     * 
+     * @param nowMs - Current epoch millis
+     * @return Due items, in deadline order
+     */
+    public synchronized List<T> advanceTo(long nowMs) {
+        long targetTick = Math.floorDiv(nowMs - startMs, tickMs);
+        List<T> due = new ArrayList<>();
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade(1);
+            int index = (int) (currentTick & MASK);
+            List<Entry<T>> slot = wheels[0][index];
+            if (slot != null) {
+                wheels[0][index] = null;
+                for (Entry<T> entry : slot) {
+                    if (entry.deadlineTick <= currentTick) {
+                        due.add(entry.item);
+                        size--;
+                    } else {
+                        place(entry);
+                    }
+                }
+            }
+        }
+        return due;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private void cascade(int level) {
+        if (level >= LEVELS || (currentTick & ((1L << (SLOT_BITS * level)) - 1)) != 0) {
+            return;
+        }
+        int index = (int) ((currentTick >>> (SLOT_BITS * level)) & MASK);
+        if (index == 0) {
+            cascade(level + 1);
+        }
+        List<Entry<T>> slot = wheels[level][index];
+        if (slot != null) {
+            wheels[level][index] = null;
+            for (Entry<T> entry : slot) {
+                place(entry);
+            }
+        }
+    }
+
+    private void place(Entry<T> entry) {
+        long delta = entry.deadlineTick - currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        long tick = entry.deadlineTick;
+        if (level == LEVELS - 1 && delta >= (1L << (SLOT_BITS * LEVELS))) {
+            tick = currentTick + (1L << (SLOT_BITS * LEVELS)) - 1;
+        }
+        if (delta <= 0) {
+            tick = currentTick;
+        }
+        int index = (int) ((tick >>> (SLOT_BITS * level)) & MASK);
+        List<Entry<T>> slot = wheels[level][index];
+        if (slot == null) {
+            slot = new ArrayList<>();
+            wheels[level][index] = slot;
+        }
+        slot.add(entry);
+    }
+
+    private record Entry<T>(T item, long deadlineTick) {
+    }
+}
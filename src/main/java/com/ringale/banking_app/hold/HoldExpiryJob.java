@@ -0,0 +1,123 @@
+package com.ringale.banking_app.hold;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ringale.banking_app.entity.HoldStatus;
+import com.ringale.banking_app.repository.FundHoldRepository;
+import com.ringale.banking_app.repository.HoldExpiry;
+import com.ringale.banking_app.service.HoldService;
+
+/**
+ * Releases expired holds in batches as the timing wheel reports them due.
+ * Active holds are loaded into the wheel once at startup; a failed batch is
+ * rescheduled for a retry. The wheel only knows holds placed on this node, so
+ * a coarse sweep of the database also releases holds left behind by a node
+ * that went away before they expired.
+ */
+@Component
+public class HoldExpiryJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(HoldExpiryJob.class);
+    private final HoldExpiryScheduler scheduler;
+    private final HoldService holdService;
+    private final FundHoldRepository fundHoldRepository;
+    private final int batchSize;
+    private final long retryDelayMs;
+    private final long sweepGraceMs;
+
+    public HoldExpiryJob(HoldExpiryScheduler scheduler, HoldService holdService,
+            FundHoldRepository fundHoldRepository,
+            @Value("${banking.holds.expiry.batch-size:500}") int batchSize,
+            @Value("${banking.holds.expiry.retry-delay-ms:1000}") long retryDelayMs,
+            @Value("${banking.holds.expiry.sweep-grace-ms:5000}") long sweepGraceMs) {
+        this.scheduler = scheduler;
+        this.holdService = holdService;
+        this.fundHoldRepository = fundHoldRepository;
+        this.batchSize = batchSize;
+        this.retryDelayMs = retryDelayMs;
+        this.sweepGraceMs = sweepGraceMs;
+    }
+
+    /**
+     * Load active holds into the timing wheel and release the ones that expired while down
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadActiveHolds() {
+        List<HoldExpiry> active = fundHoldRepository.findExpiriesByStatus(HoldStatus.ACTIVE);
+        List<Long> overdue = new ArrayList<>();
+        for (HoldExpiry hold : active) {
+            if (!scheduler.schedule(hold.id(), hold.expiresAt())) {
+                overdue.add(hold.id());
+            }
+        }
+        logger.info("Scheduled {} active holds for expiry, {} already overdue", active.size(), overdue.size());
+        expire(overdue);
+    }
+
+    /**
+     * Release holds whose expiry time has passed
+     */
+    @Scheduled(fixedDelayString = "${banking.holds.expiry.tick-ms:100}")
+    public void expireDueHolds() {
+        expire(scheduler.pollDue());
+    }
+
+    /**
+     * Release active holds that are overdue by more than the grace period.
+     * The grace period leaves holds to the timing wheel of the node that placed them;
+     * the sweep only picks up the ones no wheel released in time.
+     * @return Number of holds released
+     */
+    @Scheduled(initialDelayString = "${banking.holds.expiry.sweep-interval-ms:60000}",
+            fixedDelayString = "${banking.holds.expiry.sweep-interval-ms:60000}")
+    public int sweepOverdueHolds() {
+        int swept = 0;
+        while (true) {
+            LocalDateTime before = LocalDateTime.now().minusNanos(sweepGraceMs * 1_000_000L);
+            List<Long> overdue = fundHoldRepository.findIdsDueBefore(HoldStatus.ACTIVE, before, Limit.of(batchSize));
+            if (overdue.isEmpty()) {
+                break;
+            }
+            int expired;
+            try {
+                expired = holdService.expireHolds(overdue);
+            } catch (RuntimeException ex) {
+                logger.warn("Failed to sweep batch of {} overdue holds: {}", overdue.size(), ex.getMessage());
+                break;
+            }
+            swept += expired;
+            if (expired == 0 || overdue.size() < batchSize) {
+                break;
+            }
+        }
+        if (swept > 0) {
+            logger.info("Swept {} overdue holds not released by a timing wheel", swept);
+        }
+        return swept;
+    }
+
+    private void expire(List<Long> holdIds) {
+        for (int from = 0; from < holdIds.size(); from += batchSize) {
+            List<Long> batch = holdIds.subList(from, Math.min(from + batchSize, holdIds.size()));
+            try {
+                int expired = holdService.expireHolds(batch);
+                logger.debug("Expired {} of {} due holds", expired, batch.size());
+            } catch (RuntimeException ex) {
+                logger.warn("Failed to expire batch of {} holds, retrying: {}", batch.size(), ex.getMessage());
+                long retryAt = System.currentTimeMillis() + retryDelayMs;
+                batch.forEach(holdId -> scheduler.schedule(holdId, retryAt));
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.ringale.banking_app.hold;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * In-memory schedule of hold expiries backed by a hierarchical timing wheel.
+ * Holds are registered when placed and when the application starts, so
+ * expiry never needs to poll the database per hold.
+ */
+@Component
+public class HoldExpiryScheduler {
+
+    private final HierarchicalTimingWheel<Long> wheel;
+
+    public HoldExpiryScheduler(MeterRegistry meterRegistry,
+            @Value("${banking.holds.expiry.tick-ms:100}") long tickMs) {
+        this.wheel = new HierarchicalTimingWheel<>(tickMs, System.currentTimeMillis());
+        Gauge.builder("banking.holds.scheduled", wheel, HierarchicalTimingWheel::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Register a hold for expiry
+     * 
+     * @return false if the hold is already past its expiry time
+     */
+    public boolean schedule(Long holdId, LocalDateTime expiresAt) {
+        return schedule(holdId, expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    public boolean schedule(Long holdId, long expiresAtMs) {
+        return wheel.schedule(holdId, expiresAtMs);
+    }
+
+    /**
+     * Remove and return the IDs of holds that are now due
+     */
+    public List<Long> pollDue() {
+        return wheel.advanceTo(System.currentTimeMillis());
+    }
+}
@@ -15,6 +15,9 @@ public class AccountMapper {
         Account account = new Account();
         account.setId(accountDto.getId());
         account.setAccountOwner(accountDto.getAccountOwner());
+        if (accountDto.getCurrency() != null) {
+            account.setCurrency(accountDto.getCurrency());
+        }
         account.setBalance(accountDto.getBalance());
         return account;
     }
@@ -26,7 +29,11 @@ public class AccountMapper {
         AccountDto accountDto = new AccountDto();
         accountDto.setId(account.getId());
         accountDto.setAccountOwner(account.getAccountOwner());
+        accountDto.setCurrency(account.getCurrency());
         accountDto.setBalance(account.getBalance());
+        accountDto.setHeldBalance(account.getHeldBalance());
+        accountDto.setAvailableBalance(account.getAvailableBalance());
+        accountDto.setVersion(account.getVersion());
         return accountDto;
     }
 }
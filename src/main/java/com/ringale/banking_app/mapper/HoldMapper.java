@@ -0,0 +1,24 @@
+package com.ringale.banking_app.mapper;
+
+import com.ringale.banking_app.dto.HoldDto;
+import com.ringale.banking_app.entity.FundHold;
+
+/**
+ * Mapper for converting FundHold entities to HoldDto.
+ */
+public class HoldMapper {
+
+    /**
+     * Convert FundHold entity to HoldDto
+     */
+    public static HoldDto mapToHoldDto(FundHold hold) {
+        return new HoldDto(
+                hold.getId(),
+                hold.getAccountId(),
+                hold.getAmount(),
+                hold.getCapturedAmount(),
+                hold.getStatus(),
+                hold.getExpiresAt()
+        );
+    }
+}
@@ -0,0 +1,215 @@
+package com.ringale.banking_app.membership;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.ToDoubleFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ringale.banking_app.repository.AccountRepository;
+import com.ringale.banking_app.repository.ArchivedAccountRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * In-memory Bloom filter of existing account IDs that lets lookups of IDs
+ * that definitely do not exist fail without a database query.
+ * The filter is built at startup by paging through the ID columns of the
+ * accounts and accounts_archive tables, so archived accounts can still be
+ * found and rehydrated, and rebuilt larger once it holds more IDs than it was sized for. New IDs
+ * are added after their creating transaction commits, into both the live
+ * filter and one being built, so a committed account is never missed.
+ * Accounts created on other nodes are picked up by a periodic refresh that
+ * pages through IDs above the last ones seen. The filter only answers for
+ * IDs at or below a watermark that has been through two refreshes, so an ID
+ * committed late, after a higher one was already scanned, is still picked up;
+ * any higher ID is treated as possibly existing and checked in the database.
+ * Until the first build finishes every ID is treated as possibly existing.
+ */
+@Component
+public class AccountIdFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccountIdFilter.class);
+
+    private final AccountRepository accountRepository;
+    private final ArchivedAccountRepository archivedAccountRepository;
+    private final long expectedAccounts;
+    private final double targetFpp;
+    private final int pageSize;
+    private final Counter passed;
+    private final Counter rejected;
+    private final Counter falsePositives;
+    private volatile LongBloomFilter filter;
+    private volatile LongBloomFilter building;
+    // IDs at or below the watermark have been seen by two scans; pending is the highest ID seen by the last one
+    private volatile long watermark;
+    private long pendingWatermark;
+
+    @Autowired
+    public AccountIdFilter(AccountRepository accountRepository,
+            ArchivedAccountRepository archivedAccountRepository, MeterRegistry meterRegistry,
+            @Value("${banking.account-filter.expected-accounts:1000000}") long expectedAccounts,
+            @Value("${banking.account-filter.fpp:0.01}") double targetFpp,
+            @Value("${banking.account-filter.page-size:10000}") int pageSize) {
+        this.accountRepository = accountRepository;
+        this.archivedAccountRepository = archivedAccountRepository;
+        this.expectedAccounts = expectedAccounts;
+        this.targetFpp = targetFpp;
+        this.pageSize = pageSize;
+        this.passed = lookups(meterRegistry, "passed");
+        this.rejected = lookups(meterRegistry, "rejected");
+        this.falsePositives = Counter.builder("banking.account-filter.false-positives").register(meterRegistry);
+        Gauge.builder("banking.account-filter.fpp", this, f -> f.current(LongBloomFilter::expectedFpp))
+                .register(meterRegistry);
+        Gauge.builder("banking.account-filter.memory", this, f -> f.current(LongBloomFilter::sizeInBytes))
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("banking.account-filter.entries", this, f -> f.current(LongBloomFilter::insertions))
+                .register(meterRegistry);
+    }
+
+    /**
+     * Build the filter from the accounts and archive tables once the application is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void build() {
+        long existing = accountRepository.count() + archivedAccountRepository.count();
+        LongBloomFilter next = new LongBloomFilter(Math.max(expectedAccounts, existing * 2), targetFpp);
+        building = next;
+        try {
+            long maxId = Math.max(putAll(next, accountRepository::findIdsAfter, 0),
+                    putAll(next, archivedAccountRepository::findIdsAfter, 0));
+            watermark = 0;
+            pendingWatermark = maxId;
+            filter = next;
+            logger.info("Account ID filter built with {} IDs, {} bytes, expected fpp {}",
+                    next.insertions(), next.sizeInBytes(), next.expectedFpp());
+        } finally {
+            building = null;
+        }
+    }
+
+    /**
+     * Add accounts created on any node since the last scan and advance the watermark
+     */
+    @Scheduled(initialDelayString = "${banking.account-filter.refresh-interval-ms:5000}",
+            fixedDelayString = "${banking.account-filter.refresh-interval-ms:5000}")
+    public synchronized void refresh() {
+        LongBloomFilter current = filter;
+        if (current == null) {
+            return;
+        }
+        // Scan from the watermark rather than the pending mark, so IDs committed
+        // out of order since the last scan are added before they become authoritative
+        long maxId = putAll(current, accountRepository::findIdsAfter, watermark);
+        watermark = pendingWatermark;
+        pendingWatermark = Math.max(pendingWatermark, maxId);
+    }
+
+    /**
+     * Rebuild a larger filter when the live one holds more IDs than it was sized for
+     */
+    @Scheduled(fixedDelayString = "${banking.account-filter.resize-check-ms:60000}")
+    public void rebuildIfSaturated() {
+        LongBloomFilter current = filter;
+        if (current != null && current.insertions() > current.capacity()) {
+            logger.info("Account ID filter holds {} IDs, over its capacity of {}; rebuilding",
+                    current.insertions(), current.capacity());
+            build();
+        }
+    }
+
+    /**
+     * Add a newly created account, once the current transaction commits
+     * 
+     * @param id - Account ID
+     */
+    public void add(Long id) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    put(id);
+                }
+            });
+        } else {
+            put(id);
+        }
+    }
+
+    /**
+     * Check whether an account may exist
+     * 
+     * @param id - Account ID
+     * @return false only if the account definitely does not exist
+     */
+    public boolean mightExist(Long id) {
+        LongBloomFilter current = filter;
+        if (current == null || id > watermark || current.mightContain(id)) {
+            passed.increment();
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    /**
+     * Record an ID that passed the filter but was not found in the database
+     */
+    public void recordFalsePositive() {
+        if (filter != null) {
+            falsePositives.increment();
+        }
+    }
+
+    private long putAll(LongBloomFilter target, BiFunction<Long, Limit, List<Long>> idsAfter, long fromId) {
+        long afterId = fromId;
+        List<Long> page;
+        do {
+            page = idsAfter.apply(afterId, Limit.of(pageSize));
+            for (Long id : page) {
+                target.put(id);
+            }
+            if (!page.isEmpty()) {
+                afterId = page.get(page.size() - 1);
+            }
+        } while (page.size() == pageSize);
+        return afterId;
+    }
+
+    private void put(long id) {
+        // Read the filter under construction first: a build publishes its
+        // filter before clearing building, so the ID always lands in the newest one
+        LongBloomFilter next = building;
+        if (next != null) {
+            next.put(id);
+        }
+        LongBloomFilter current = filter;
+        if (current != null && current != next) {
+            current.put(id);
+        }
+    }
+
+    private double current(ToDoubleFunction<LongBloomFilter> metric) {
+        LongBloomFilter current = filter;
+        return current == null ? Double.NaN : metric.applyAsDouble(current);
+    }
+
+    private static Counter lookups(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("banking.account-filter.lookups")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,52 @@
+package com.ringale.banking_app.outbox;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ringale.banking_app.entity.Account;
+import com.ringale.banking_app.entity.AccountEventType;
+import com.ringale.banking_app.entity.OutboxEvent;
+import com.ringale.banking_app.repository.OutboxEventRepository;
+import com.ringale.banking_app.stream.BalanceChangedEvent;
+
+/**
+ * Records account changes in the outbox table and publishes them as
+ * {@link BalanceChangedEvent}s for in-process listeners.
+ * Must be called inside the transaction that changes the account so the
+ * event is committed (or rolled back) together with the balance.
+ */
+@Component
+public class AccountEventRecorder {
+
+    private OutboxEventRepository outboxEventRepository;
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    public AccountEventRecorder(OutboxEventRepository outboxEventRepository,
+            ApplicationEventPublisher eventPublisher) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Record an account change
+     * 
+     * @param account - Account after the change has been applied
+     * @param eventType - Type of change
+     * @param amount - Amount moved by the change, in the account currency
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Account account, AccountEventType eventType, double amount) {
+        OutboxEvent event = new OutboxEvent();
+        event.setAccountId(account.getId());
+        event.setEventType(eventType);
+        event.setAmount(amount);
+        event.setCurrency(account.getCurrency());
+        event.setBalance(account.getBalance());
+        OutboxEvent saved = outboxEventRepository.save(event);
+        eventPublisher.publishEvent(new BalanceChangedEvent(saved.getId(), account.getId(), account.getBalance()));
+    }
+}
@@ -0,0 +1,52 @@
+package com.ringale.banking_app.outbox;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.ringale.banking_app.entity.OutboxEvent;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Sink that appends each event as a JSON line to a file.
+ */
+@Component
+@ConditionalOnProperty(name = "banking.outbox.sink", havingValue = "file")
+public class FileEventSink implements OutboxEventSink, DisposableBean {
+
+    private final JsonMapper jsonMapper;
+    private final BufferedWriter writer;
+
+    public FileEventSink(JsonMapper jsonMapper,
+            @Value("${banking.outbox.file.path:outbox-events.jsonl}") String path) throws IOException {
+        this.jsonMapper = jsonMapper;
+        this.writer = Files.newBufferedWriter(Path.of(path), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public synchronized void publish(OutboxEvent event) {
+        try {
+            writer.write(jsonMapper.writeValueAsString(event));
+            writer.newLine();
+            writer.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to append outbox event " + event.getId(), ex);
+        }
+    }
+
+    @Override
+    public synchronized void destroy() throws IOException {
+        writer.close();
+    }
+}
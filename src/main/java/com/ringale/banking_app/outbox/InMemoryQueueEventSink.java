@@ -0,0 +1,53 @@
+package com.ringale.banking_app.outbox;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.ringale.banking_app.entity.OutboxEvent;
+
+/**
+ * Sink that hands events to in-process consumers through a bounded queue.
+ * Also serves as a local stand-in for a message broker. Only useful when a
+ * consumer calls {@link #take()} or {@link #drain(int)}; publishing never
+ * blocks, and once the queue is full events are refused and the relay
+ * retries them on a later run.
+ */
+@Component
+@ConditionalOnProperty(name = "banking.outbox.sink", havingValue = "queue")
+public class InMemoryQueueEventSink implements OutboxEventSink {
+
+    private final BlockingQueue<OutboxEvent> queue;
+
+    public InMemoryQueueEventSink(@Value("${banking.outbox.queue.capacity:10000}") int capacity) {
+        this.queue = new LinkedBlockingQueue<>(capacity);
+    }
+
+    @Override
+    public void publish(OutboxEvent event) {
+        if (!queue.offer(event)) {
+            throw new IllegalStateException("Outbox queue is full");
+        }
+    }
+
+    /**
+     * Wait for the next event
+     */
+    public OutboxEvent take() throws InterruptedException {
+        return queue.take();
+    }
+
+    /**
+     * Remove up to maxEvents queued events without blocking
+     */
+    public List<OutboxEvent> drain(int maxEvents) {
+        List<OutboxEvent> events = new ArrayList<>();
+        queue.drainTo(events, maxEvents);
+        return events;
+    }
+}
@@ -0,0 +1,25 @@
+package com.ringale.banking_app.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.ringale.banking_app.entity.OutboxEvent;
+
+/**
+ * Default sink when no broker is configured: logs each event and accepts it,
+ * so the outbox keeps draining and is purged after the retention period.
+ */
+@Component
+@ConditionalOnProperty(name = "banking.outbox.sink", havingValue = "log", matchIfMissing = true)
+public class LoggingEventSink implements OutboxEventSink {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoggingEventSink.class);
+
+    @Override
+    public void publish(OutboxEvent event) {
+        logger.debug("Outbox event {}: {} of {} on account {}, balance {}", event.getId(), event.getEventType(),
+                event.getAmount(), event.getAccountId(), event.getBalance());
+    }
+}
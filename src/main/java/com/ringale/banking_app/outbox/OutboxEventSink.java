@@ -0,0 +1,14 @@
+package com.ringale.banking_app.outbox;
+
+import com.ringale.banking_app.entity.OutboxEvent;
+
+/**
+ * Destination for events drained from the outbox.
+ * Implementations must throw if the event could not be handed off so the
+ * relay retries it; delivery is at-least-once and consumers should
+ * de-duplicate on the event id.
+ */
+public interface OutboxEventSink {
+
+    void publish(OutboxEvent event);
+}
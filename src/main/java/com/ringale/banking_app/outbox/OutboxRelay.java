@@ -0,0 +1,117 @@
+package com.ringale.banking_app.outbox;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.ringale.banking_app.entity.OutboxEvent;
+import com.ringale.banking_app.repository.OutboxEventRepository;
+
+/**
+ * Drains unpublished outbox events in id order and hands them to the configured sink.
+ * Events are marked published only after the sink accepted them, so delivery is
+ * at-least-once. If an event fails, later events of the same account are held back
+ * until the next run to keep per-account ordering.
+ * Each batch is claimed with FOR UPDATE SKIP LOCKED and marked in the same
+ * transaction, so with several nodes an event is published by one of them.
+ * A node publishes only when its batch starts at the oldest unpublished event;
+ * otherwise another node is mid-batch and it backs off, so events of one
+ * account are never published out of order by two nodes at once.
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxEventSink sink;
+    private final TransactionOperations transactionOperations;
+    private final int batchSize;
+    private final long retentionHours;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, OutboxEventSink sink,
+            TransactionOperations transactionOperations,
+            @Value("${banking.outbox.relay.batch-size:100}") int batchSize,
+            @Value("${banking.outbox.retention-hours:168}") long retentionHours) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.sink = sink;
+        this.transactionOperations = transactionOperations;
+        this.batchSize = batchSize;
+        this.retentionHours = retentionHours;
+    }
+
+    /**
+     * Publish pending events until the outbox is drained or a batch comes back short
+     */
+    @Scheduled(fixedDelayString = "${banking.outbox.relay.interval-ms:500}")
+    public void relay() {
+        int published;
+        do {
+            published = drainBatch();
+        } while (published == batchSize);
+    }
+
+    /**
+     * Claim and publish one batch of pending events
+     * 
+     * @return Number of events published
+     */
+    public int drainBatch() {
+        Integer published = transactionOperations.execute(status -> publishClaimedBatch());
+        return published == null ? 0 : published;
+    }
+
+    private int publishClaimedBatch() {
+        List<OutboxEvent> batch = outboxEventRepository.claimUnpublished(Limit.of(batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        Long oldest = outboxEventRepository.findOldestUnpublishedId().orElse(null);
+        if (!batch.get(0).getId().equals(oldest)) {
+            logger.debug("Outbox event {} is claimed by another node, skipping this run", oldest);
+            return 0;
+        }
+
+        List<Long> publishedIds = new ArrayList<>(batch.size());
+        Set<Long> blockedAccounts = new HashSet<>();
+        for (OutboxEvent event : batch) {
+            if (blockedAccounts.contains(event.getAccountId())) {
+                continue;
+            }
+            try {
+                sink.publish(event);
+                publishedIds.add(event.getId());
+            } catch (RuntimeException ex) {
+                logger.warn("Failed to publish outbox event {} for account {}: {}",
+                        event.getId(), event.getAccountId(), ex.getMessage());
+                blockedAccounts.add(event.getAccountId());
+            }
+        }
+
+        if (!publishedIds.isEmpty()) {
+            outboxEventRepository.markPublished(publishedIds, LocalDateTime.now());
+        }
+        logger.debug("Published {} of {} outbox events", publishedIds.size(), batch.size());
+        return publishedIds.size();
+    }
+
+    /**
+     * Remove published events older than the retention period
+     */
+    @Scheduled(fixedDelayString = "${banking.outbox.cleanup.interval-ms:3600000}")
+    public void purgePublished() {
+        int deleted = outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minusHours(retentionHours));
+        if (deleted > 0) {
+            logger.info("Purged {} published outbox events", deleted);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.ringale.banking_app.profiling;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for one account service operation, from the start of the
+ * service method to the end of its transaction, so commit time is included.
+ * When no recording has the event enabled, {@link #begin} returns after one
+ * check and nothing is allocated beyond the event itself.
+ */
+@Name("com.ringale.banking.AccountOperation")
+@Label("Account Operation")
+@Category({ "Banking", "Accounts" })
+@Description("Account service operation and the database time it waited for")
+@StackTrace(false)
+public class AccountOperationEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Account ID")
+    @Description("Account operated on, the source account for transfers, 0 for new accounts and lookups")
+    long accountId;
+
+    @Label("Database Wait Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long databaseWaitTime;
+
+    @Label("Outcome")
+    @Description("COMMITTED, ROLLED_BACK or UNKNOWN")
+    String outcome;
+
+    /**
+     * Start timing an operation; the event is committed when the current
+     * transaction completes. Does nothing outside a transaction.
+     *
+     * @param operation - Operation name, e.g. DEPOSIT
+     * @param accountId - Account ID, or null when not known yet
+     */
+    public static void begin(String operation, Long accountId) {
+        AccountOperationEvent event = new AccountOperationEvent();
+        if (!event.isEnabled() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        event.operation = operation;
+        event.accountId = accountId == null ? 0 : accountId;
+        long databaseStart = DatabaseTimeListener.elapsedNanos();
+        event.begin();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.databaseWaitTime = DatabaseTimeListener.elapsedNanos() - databaseStart;
+                    event.outcome = outcome(status);
+                    event.commit();
+                }
+            }
+        });
+    }
+
+    private static String outcome(int status) {
+        switch (status) {
+            case TransactionSynchronization.STATUS_COMMITTED:
+                return "COMMITTED";
+            case TransactionSynchronization.STATUS_ROLLED_BACK:
+                return "ROLLED_BACK";
+            default:
+                return "UNKNOWN";
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.ringale.banking_app.profiling;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate session listener that adds the time spent waiting on the
+ * database to a per-thread total: acquiring a connection from the pool,
+ * preparing statements and executing them, including batched flushes at
+ * commit. Registered for every session through hibernate.session.events.auto;
+ * {@link AccountOperationEvent} reads the total before and after an operation.
+ */
+public class DatabaseTimeListener implements SessionEventListener {
+
+    private static final long serialVersionUID = 1L;
+    private static final ThreadLocal<long[]> ELAPSED = ThreadLocal.withInitial(() -> new long[1]);
+
+    private transient long connectionStart;
+    private transient long prepareStart;
+    private transient long executeStart;
+    private transient long batchStart;
+
+    /**
+     * Database time accumulated by the current thread so far
+     *
+     * @return Nanoseconds; only differences between two reads are meaningful
+     */
+    public static long elapsedNanos() {
+        return ELAPSED.get()[0];
+    }
+
+    private static void add(long start) {
+        ELAPSED.get()[0] += System.nanoTime() - start;
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        connectionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        add(connectionStart);
+    }
+
+    @Override
+    public void jdbcPrepareStatementStart() {
+        prepareStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcPrepareStatementEnd() {
+        add(prepareStart);
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        add(executeStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        add(batchStart);
+    }
+}
@@ -0,0 +1,43 @@
+package com.ringale.banking_app.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for an exception turned into an error response.
+ * Emitted on the request thread, so it lines up with the
+ * {@link AccountOperationEvent} of the same request. The message is left
+ * out because it can carry balances.
+ */
+@Name("com.ringale.banking.HandledException")
+@Label("Handled Exception")
+@Category({ "Banking", "Errors" })
+@Description("Exception mapped to an HTTP error response")
+@StackTrace(false)
+public class HandledExceptionEvent extends Event {
+
+    @Label("Exception Type")
+    String exceptionType;
+
+    @Label("HTTP Status")
+    int status;
+
+    /**
+     * Record a handled exception if a recording has the event enabled
+     *
+     * @param ex - Handled exception
+     * @param status - Response status
+     */
+    public static void emit(Exception ex, int status) {
+        HandledExceptionEvent event = new HandledExceptionEvent();
+        if (event.shouldCommit()) {
+            event.exceptionType = ex.getClass().getName();
+            event.status = status;
+            event.commit();
+        }
+    }
+}
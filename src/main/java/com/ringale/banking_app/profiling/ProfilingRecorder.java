@@ -0,0 +1,148 @@
+package com.ringale.banking_app.profiling;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.ringale.banking_app.dto.ProfilingStatusDto;
+import com.ringale.banking_app.exception.ProfilingStateException;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * Starts and stops one JFR recording at a time inside the running JVM, so a
+ * node can be profiled without a restart or an attached agent. Recordings
+ * are bounded in time and size; one that reaches its duration stops by
+ * itself and keeps its data until it is stopped and dumped. The events that
+ * capture environment variables and system properties are disabled, since
+ * they would copy credentials into the file. Each dump goes to a new temp
+ * file readable only by the owner, which the caller deletes once read.
+ * Off unless banking.profiling.enabled is set.
+ */
+@Component
+@ConditionalOnProperty(name = "banking.profiling.enabled", havingValue = "true")
+public class ProfilingRecorder implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProfilingRecorder.class);
+    private static final String DUMP_PREFIX = "banking-app-profile-";
+    private static final String[] SENSITIVE_EVENTS = { "jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty" };
+
+    private final Duration maxDuration;
+    private final long maxSizeBytes;
+    private final String settings;
+    private final Path directory;
+    private Recording recording;
+
+    @Autowired
+    public ProfilingRecorder(
+            @Value("${banking.profiling.max-duration-seconds:300}") long maxDurationSeconds,
+            @Value("${banking.profiling.max-size-mb:100}") long maxSizeMb,
+            @Value("${banking.profiling.settings:profile}") String settings,
+            @Value("${banking.profiling.directory:${java.io.tmpdir}}") String directory) {
+        this.maxDuration = Duration.ofSeconds(maxDurationSeconds);
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+        this.settings = settings;
+        this.directory = Path.of(directory);
+    }
+
+    /**
+     * Start a recording with the configured settings
+     *
+     * @param durationSeconds - Requested duration, capped at the configured maximum; null for the maximum
+     * @return Recording status
+     * @throws ProfilingStateException - If a recording is already in progress or cannot be created
+     */
+    public synchronized ProfilingStatusDto start(Long durationSeconds) {
+        if (recording != null) {
+            throw new ProfilingStateException("A recording is already in progress, stop it first");
+        }
+        Duration duration = durationSeconds == null || durationSeconds <= 0
+                ? maxDuration
+                : Duration.ofSeconds(Math.min(durationSeconds, maxDuration.toSeconds()));
+        Recording started;
+        try {
+            started = new Recording(Configuration.getConfiguration(settings));
+        } catch (IOException | ParseException ex) {
+            throw new ProfilingStateException("JFR settings '" + settings + "' could not be loaded", ex);
+        }
+        for (String event : SENSITIVE_EVENTS) {
+            started.disable(event);
+        }
+        started.setName("banking-app-on-demand");
+        started.setToDisk(true);
+        started.setDuration(duration);
+        started.setMaxSize(maxSizeBytes);
+        started.enable(AccountOperationEvent.class);
+        started.enable(HandledExceptionEvent.class);
+        started.start();
+        recording = started;
+        logger.info("Started JFR recording {} for at most {}", started.getId(), duration);
+        return status();
+    }
+
+    /**
+     * Stop the recording and write it to a new owner-only temp file
+     *
+     * @return Path of the recording file, for the caller to delete
+     * @throws ProfilingStateException - If no recording was started or it cannot be written
+     */
+    public synchronized Path stop() {
+        if (recording == null) {
+            throw new ProfilingStateException("No recording in progress");
+        }
+        Recording stopped = recording;
+        recording = null;
+        try {
+            if (stopped.getState() == RecordingState.RUNNING) {
+                stopped.stop();
+            }
+            Files.createDirectories(directory);
+            // createTempFile gives the file a random name and owner-only permissions
+            Path file = Files.createTempFile(directory, DUMP_PREFIX, ".jfr");
+            try {
+                stopped.dump(file);
+            } catch (IOException ex) {
+                Files.deleteIfExists(file);
+                throw ex;
+            }
+            logger.info("Stopped JFR recording {}, {} bytes written to {}", stopped.getId(), Files.size(file), file);
+            return file;
+        } catch (IOException ex) {
+            throw new ProfilingStateException("Recording could not be written: " + ex.getMessage(), ex);
+        } finally {
+            stopped.close();
+        }
+    }
+
+    /**
+     * Get the state of the current recording
+     */
+    public synchronized ProfilingStatusDto status() {
+        if (recording == null) {
+            return new ProfilingStatusDto(false, null, null, maxDuration.toSeconds(), maxSizeBytes);
+        }
+        return new ProfilingStatusDto(recording.getState() == RecordingState.RUNNING, recording.getState().name(),
+                recording.getStartTime() == null ? null : recording.getStartTime().toEpochMilli(),
+                recording.getDuration().toSeconds(), maxSizeBytes);
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.ringale.banking_app.ratelimit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Global in-flight request limit that adapts to observed latency (AIMD).
+ * The limit grows by one after a full window of fast completions and is cut
+ * by the backoff ratio when a request exceeds the latency target, at most
+ * once per target interval. Requests above the limit are rejected instead of
+ * queueing for a database connection.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger limit;
+    private final AtomicInteger fastCompletions = new AtomicInteger();
+    private final AtomicLong lastDecreaseNanos;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyTargetNanos;
+    private final double backoffRatio;
+    private final LongSupplier nanoClock;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+            long latencyTargetNanos, double backoffRatio) {
+        this(initialLimit, minLimit, maxLimit, latencyTargetNanos, backoffRatio, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+            long latencyTargetNanos, double backoffRatio, LongSupplier nanoClock) {
+        if (minLimit <= 0 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 0 < min <= initial <= max");
+        }
+        this.limit = new AtomicInteger(initialLimit);
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTargetNanos = latencyTargetNanos;
+        this.backoffRatio = backoffRatio;
+        this.nanoClock = nanoClock;
+        this.lastDecreaseNanos = new AtomicLong(nanoClock.getAsLong() - latencyTargetNanos);
+    }
+
+    /**
+     * Try to admit a request
+     * 
+     * @return true if admitted; the caller must then call {@link #release(long)}
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit.get()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Complete an admitted request and adjust the limit
+     * 
+     * @param latencyNanos - Time the request took
+     */
+    public void release(long latencyNanos) {
+        inFlight.decrementAndGet();
+        if (latencyNanos > latencyTargetNanos) {
+            decrease();
+        } else if (fastCompletions.incrementAndGet() >= limit.get()) {
+            fastCompletions.set(0);
+            limit.updateAndGet(current -> Math.min(maxLimit, current + 1));
+        }
+    }
+
+    public int getLimit() {
+        return limit.get();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void decrease() {
+        long now = nanoClock.getAsLong();
+        long last = lastDecreaseNanos.get();
+        if (now - last < latencyTargetNanos || !lastDecreaseNanos.compareAndSet(last, now)) {
+            return;
+        }
+        fastCompletions.set(0);
+        limit.updateAndGet(current -> Math.max(minLimit, (int) (current * backoffRatio)));
+    }
+}
@@ -0,0 +1,64 @@
+package com.ringale.banking_app.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.ringale.banking_app.exception.RateLimitExceededException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Sheds API requests above the adaptive concurrency limit so excess load is
+ * rejected up front rather than waiting on an exhausted connection pool.
+ */
+@Component
+public class AdmissionControlInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".start";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final Counter admitted;
+    private final Counter rejected;
+
+    public AdmissionControlInterceptor(MeterRegistry meterRegistry,
+            @Value("${banking.admission.initial-limit:20}") int initialLimit,
+            @Value("${banking.admission.min-limit:4}") int minLimit,
+            @Value("${banking.admission.max-limit:200}") int maxLimit,
+            @Value("${banking.admission.latency-target-ms:250}") long latencyTargetMs,
+            @Value("${banking.admission.backoff-ratio:0.9}") double backoffRatio) {
+        this.limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit,
+                latencyTargetMs * 1_000_000L, backoffRatio);
+        this.admitted = RateLimitInterceptor.requests(meterRegistry, "concurrency", "admitted");
+        this.rejected = RateLimitInterceptor.requests(meterRegistry, "concurrency", "rejected");
+        Gauge.builder("banking.admission.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .register(meterRegistry);
+        Gauge.builder("banking.admission.in-flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!limiter.tryAcquire()) {
+            rejected.increment();
+            throw new RateLimitExceededException("Server is at its concurrency limit, retry later");
+        }
+        admitted.increment();
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        if (start != null) {
+            request.removeAttribute(START_ATTRIBUTE);
+            limiter.release(System.nanoTime() - (Long) start);
+        }
+    }
+}
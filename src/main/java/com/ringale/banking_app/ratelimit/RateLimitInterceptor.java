@@ -0,0 +1,127 @@
+package com.ringale.banking_app.ratelimit;
+
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.ringale.banking_app.exception.RateLimitExceededException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Applies per-client and per-account token buckets to money movement endpoints.
+ * Clients are identified by their remote address. The X-Client-Id header is
+ * only honored on requests from a configured trusted proxy or gateway; from
+ * anyone else it would let a caller pick a fresh bucket per request and fill
+ * the bucket table.
+ */
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+
+    private final Set<String> trustedProxies;
+    private final TokenBucketRateLimiter<String> clientLimiter;
+    private final TokenBucketRateLimiter<String> accountLimiter;
+    private final Counter clientAdmitted;
+    private final Counter clientRejected;
+    private final Counter accountAdmitted;
+    private final Counter accountRejected;
+
+    public RateLimitInterceptor(MeterRegistry meterRegistry,
+            @Value("${banking.rate-limit.client.permits-per-second:50}") double clientRate,
+            @Value("${banking.rate-limit.client.burst:100}") int clientBurst,
+            @Value("${banking.rate-limit.account.permits-per-second:10}") double accountRate,
+            @Value("${banking.rate-limit.account.burst:20}") int accountBurst,
+            @Value("${banking.rate-limit.max-buckets:100000}") int maxBuckets,
+            @Value("${banking.rate-limit.trusted-proxies:}") Set<String> trustedProxies) {
+        this.trustedProxies = Set.copyOf(trustedProxies);
+        this.clientLimiter = new TokenBucketRateLimiter<>(clientRate, clientBurst, maxBuckets);
+        this.accountLimiter = new TokenBucketRateLimiter<>(accountRate, accountBurst, maxBuckets);
+        this.clientAdmitted = requests(meterRegistry, "client", "admitted");
+        this.clientRejected = requests(meterRegistry, "client", "rejected");
+        this.accountAdmitted = requests(meterRegistry, "account", "admitted");
+        this.accountRejected = requests(meterRegistry, "account", "rejected");
+        Gauge.builder("banking.rate-limit.buckets", clientLimiter, TokenBucketRateLimiter::size)
+                .tag("limiter", "client")
+                .register(meterRegistry);
+        Gauge.builder("banking.rate-limit.buckets", accountLimiter, TokenBucketRateLimiter::size)
+                .tag("limiter", "account")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String clientId = clientId(request);
+        if (!clientLimiter.tryAcquire(clientId)) {
+            clientRejected.increment();
+            throw new RateLimitExceededException("Rate limit exceeded for client: " + clientId);
+        }
+        clientAdmitted.increment();
+
+        @SuppressWarnings("unchecked")
+        Map<String, String> pathVariables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String accountId = null;
+        if (pathVariables != null) {
+            accountId = pathVariables.getOrDefault("id", pathVariables.get("accountId"));
+        }
+        if (accountId != null) {
+            acquireAccount(accountId);
+        }
+        return true;
+    }
+
+    /**
+     * Identify the client by remote address, or by the header a trusted proxy set
+     */
+    private String clientId(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        if (trustedProxies.contains(remoteAddr)) {
+            String clientId = request.getHeader(CLIENT_ID_HEADER);
+            if (clientId != null && !clientId.isBlank()) {
+                return clientId;
+            }
+        }
+        return remoteAddr;
+    }
+
+    /**
+     * Take a permit from the bucket of an account whose ID is not in the request path,
+     * such as the source account of a transfer
+     * @param accountId - Account ID
+     * @throws RateLimitExceededException if the account bucket is empty
+     */
+    public void acquireAccount(String accountId) {
+        if (!accountLimiter.tryAcquire(accountId)) {
+            accountRejected.increment();
+            throw new RateLimitExceededException("Rate limit exceeded for account ID: " + accountId);
+        }
+        accountAdmitted.increment();
+    }
+
+    /**
+     * Drop buckets of clients and accounts that have been idle long enough to refill
+     */
+    @Scheduled(fixedDelayString = "${banking.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        clientLimiter.evictIdle();
+        accountLimiter.evictIdle();
+    }
+
+    static Counter requests(MeterRegistry meterRegistry, String limiter, String outcome) {
+        return Counter.builder("banking.admission.requests")
+                .tag("limiter", limiter)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,82 @@
+package com.ringale.banking_app.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token bucket limiter keyed by an arbitrary id.
+ * Each bucket is a single "theoretical arrival time" updated with CAS
+ * (generic cell rate algorithm), which behaves like a token bucket of
+ * {@code burst} tokens refilled at {@code permitsPerSecond}.
+ * A bucket whose arrival time is in the past is full and therefore
+ * indistinguishable from a new one, so idle buckets can be evicted freely.
+ */
+public class TokenBucketRateLimiter<K> {
+
+    private final ConcurrentHashMap<K, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final int maxBuckets;
+    private final LongSupplier nanoClock;
+
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst, int maxBuckets) {
+        this(permitsPerSecond, burst, maxBuckets, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(double permitsPerSecond, int burst, int maxBuckets, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0 || burst <= 0 || maxBuckets <= 0) {
+            throw new IllegalArgumentException("Rate, burst and bucket limit must be positive");
+        }
+        this.emissionIntervalNanos = (long) (1_000_000_000L / permitsPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * burst;
+        this.maxBuckets = maxBuckets;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Take one permit for the key
+     * 
+     * @return true if the request is within the rate, false otherwise
+     */
+    public boolean tryAcquire(K key) {
+        long now = nanoClock.getAsLong();
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxBuckets) {
+                evictIdle();
+                if (buckets.size() >= maxBuckets) {
+                    return false;
+                }
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+
+        while (true) {
+            long tat = bucket.get();
+            long newTat = Math.max(tat, now) + emissionIntervalNanos;
+            if (newTat - now > burstToleranceNanos) {
+                return false;
+            }
+            if (bucket.compareAndSet(tat, newTat)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Remove buckets that have refilled completely
+     * 
+     * @return Number of buckets removed
+     */
+    public int evictIdle() {
+        long now = nanoClock.getAsLong();
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.get() <= now);
+        return before - buckets.size();
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+}
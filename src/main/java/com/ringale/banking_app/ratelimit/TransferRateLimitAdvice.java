@@ -0,0 +1,42 @@
+package com.ringale.banking_app.ratelimit;
+
+import java.lang.reflect.Type;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import com.ringale.banking_app.dto.TransferRequest;
+
+/**
+ * Applies the per-account token bucket to transfers.
+ * The transfer URL carries no account ID, so the source account is taken from
+ * the request body once it has been read instead of from the path.
+ */
+@ControllerAdvice
+public class TransferRateLimitAdvice extends RequestBodyAdviceAdapter {
+
+    private final RateLimitInterceptor rateLimitInterceptor;
+
+    public TransferRateLimitAdvice(RateLimitInterceptor rateLimitInterceptor) {
+        this.rateLimitInterceptor = rateLimitInterceptor;
+    }
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+            Class<? extends HttpMessageConverter<?>> converterType) {
+        return TransferRequest.class.equals(targetType);
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter,
+            Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
+        Long fromAccountId = ((TransferRequest) body).fromAccountId();
+        if (fromAccountId != null) {
+            rateLimitInterceptor.acquireAccount(String.valueOf(fromAccountId));
+        }
+        return body;
+    }
+}
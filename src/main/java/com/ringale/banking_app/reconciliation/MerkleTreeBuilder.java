@@ -0,0 +1,219 @@
+package com.ringale.banking_app.reconciliation;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.ringale.banking_app.dto.MerkleLeafDto;
+import com.ringale.banking_app.dto.MerkleTreeDto;
+import com.ringale.banking_app.dto.RowDigestDto;
+import com.ringale.banking_app.exception.InvalidReconciliationRequestException;
+import com.ringale.banking_app.repository.AccountDigestRepository;
+import com.ringale.banking_app.repository.AccountRangeDigest;
+import com.ringale.banking_app.repository.AccountRowDigest;
+
+/**
+ * Builds Merkle trees over ID ranges of the accounts table.
+ * A range is split into equal-width leaves; each leaf is one aggregate query
+ * per table, run in parallel on a small pool so the database scans several
+ * index ranges at once. Leaf hashes cover the range bounds, row count, row
+ * hash sum and balance sum; parent hashes cover their two children, and an
+ * unpaired node is carried up a level. Leaves are queried independently, so
+ * on a live database a tree is a fuzzy snapshot and a range written to while
+ * it was hashed can show up as different until it is compared again.
+ */
+@Component
+@ConditionalOnProperty(name = "banking.reconciliation.enabled", havingValue = "true")
+public class MerkleTreeBuilder implements DisposableBean {
+
+    private final AccountDigestRepository digestRepository;
+    private final ExecutorService executor;
+    private final int maxLeaves;
+    private final int maxRowRange;
+
+    @Autowired
+    public MerkleTreeBuilder(AccountDigestRepository digestRepository,
+            @Value("${banking.reconciliation.threads:4}") int threads,
+            @Value("${banking.reconciliation.max-leaves:4096}") int maxLeaves,
+            @Value("${banking.reconciliation.max-row-range:1000}") int maxRowRange) {
+        this.digestRepository = digestRepository;
+        this.maxLeaves = maxLeaves;
+        this.maxRowRange = maxRowRange;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "reconciliation-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Highest account ID in the accounts or archive table
+     * 
+     * @return Highest ID, or 0 if there are no accounts
+     */
+    public long maxId() {
+        return Math.max(digestRepository.findMaxAccountId(), digestRepository.findMaxArchivedId());
+    }
+
+    /**
+     * Build a tree without blocking the caller
+     * 
+     * @param fromId - First ID of the range
+     * @param toId - Last ID of the range, inclusive
+     * @param leaves - Number of leaves, fewer if the range has fewer IDs
+     * @return Tree, completed once every leaf has been hashed
+     * @throws InvalidReconciliationRequestException - If the range or leaf count is invalid
+     */
+    public CompletableFuture<MerkleTreeDto> buildAsync(long fromId, long toId, int leaves) {
+        requireRange(fromId, toId);
+        if (leaves < 1 || leaves > maxLeaves) {
+            throw new InvalidReconciliationRequestException("Leaf count must be between 1 and " + maxLeaves);
+        }
+        List<CompletableFuture<MerkleLeafDto>> futures = new ArrayList<>(leaves);
+        for (long[] range : split(fromId, toId, leaves)) {
+            futures.add(CompletableFuture.supplyAsync(() -> leaf(range[0], range[1]), executor));
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(done -> {
+                    List<MerkleLeafDto> leafDtos = futures.stream().map(CompletableFuture::join).toList();
+                    return new MerkleTreeDto(fromId, toId, root(leafDtos), leafDtos);
+                });
+    }
+
+    /**
+     * Build a tree
+     * 
+     * @param fromId - First ID of the range
+     * @param toId - Last ID of the range, inclusive
+     * @param leaves - Number of leaves, fewer if the range has fewer IDs
+     * @return Tree over the range
+     * @throws InvalidReconciliationRequestException - If the range or leaf count is invalid
+     */
+    public MerkleTreeDto build(long fromId, long toId, int leaves) {
+        return await(buildAsync(fromId, toId, leaves));
+    }
+
+    /**
+     * Hash every account in a small range
+     * 
+     * @param fromId - First ID of the range
+     * @param toId - Last ID of the range, inclusive
+     * @return Row hashes in ID order
+     * @throws InvalidReconciliationRequestException - If the range is invalid or too wide
+     */
+    public List<RowDigestDto> rowDigests(long fromId, long toId) {
+        requireRange(fromId, toId);
+        if (toId - fromId >= maxRowRange) {
+            throw new InvalidReconciliationRequestException("Row digests are limited to " + maxRowRange + " IDs");
+        }
+        TreeMap<Long, Long> rows = new TreeMap<>();
+        for (AccountRowDigest row : digestRepository.findAccountRowDigests(fromId, toId)) {
+            rows.put(row.id(), row.hash());
+        }
+        for (AccountRowDigest row : digestRepository.findArchivedRowDigests(fromId, toId)) {
+            rows.put(row.id(), row.hash());
+        }
+        List<RowDigestDto> digests = new ArrayList<>(rows.size());
+        rows.forEach((id, hash) -> digests.add(new RowDigestDto(id, hash)));
+        return digests;
+    }
+
+    public int getMaxRowRange() {
+        return maxRowRange;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Split a range into at most the given number of equal-width ranges
+     */
+    static List<long[]> split(long fromId, long toId, int leaves) {
+        long size = toId - fromId + 1;
+        long width = (size + Math.min(leaves, size) - 1) / Math.min(leaves, size);
+        List<long[]> ranges = new ArrayList<>(leaves);
+        for (long from = fromId; from <= toId; from += width) {
+            ranges.add(new long[] { from, Math.min(toId, from + width - 1) });
+        }
+        return ranges;
+    }
+
+    private MerkleLeafDto leaf(long fromId, long toId) {
+        AccountRangeDigest digest = digestRepository.digestAccounts(fromId, toId)
+                .plus(digestRepository.digestArchivedAccounts(fromId, toId));
+        ByteBuffer buffer = ByteBuffer.allocate(5 * Long.BYTES)
+                .putLong(fromId)
+                .putLong(toId)
+                .putLong(digest.count())
+                .putLong(digest.checksum())
+                .putLong(digest.balanceCents());
+        String hash = HexFormat.of().formatHex(sha256().digest(buffer.array()));
+        return new MerkleLeafDto(fromId, toId, digest.count(), digest.balanceCents(), hash);
+    }
+
+    private static String root(List<MerkleLeafDto> leaves) {
+        HexFormat hex = HexFormat.of();
+        List<byte[]> level = new ArrayList<>(leaves.size());
+        for (MerkleLeafDto leaf : leaves) {
+            level.add(hex.parseHex(leaf.getHash()));
+        }
+        while (level.size() > 1) {
+            List<byte[]> parents = new ArrayList<>((level.size() + 1) / 2);
+            for (int i = 0; i < level.size(); i += 2) {
+                if (i + 1 == level.size()) {
+                    parents.add(level.get(i));
+                } else {
+                    MessageDigest digest = sha256();
+                    digest.update(level.get(i));
+                    parents.add(digest.digest(level.get(i + 1)));
+                }
+            }
+            level = parents;
+        }
+        return hex.formatHex(level.get(0));
+    }
+
+    private static void requireRange(long fromId, long toId) {
+        if (fromId < 0 || toId < fromId || toId == Long.MAX_VALUE) {
+            throw new InvalidReconciliationRequestException(
+                    "Invalid ID range " + fromId + " to " + toId);
+        }
+    }
+
+    static MerkleTreeDto await(CompletableFuture<MerkleTreeDto> tree) {
+        try {
+            return tree.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
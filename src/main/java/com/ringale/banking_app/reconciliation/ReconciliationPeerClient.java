@@ -0,0 +1,89 @@
+package com.ringale.banking_app.reconciliation;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import com.ringale.banking_app.dto.ApiResponse;
+import com.ringale.banking_app.dto.MerkleTreeDto;
+import com.ringale.banking_app.dto.RowDigestDto;
+import com.ringale.banking_app.exception.ReconciliationPeerException;
+
+/**
+ * HTTP client for the reconciliation endpoints of a peer instance.
+ */
+@Component
+public class ReconciliationPeerClient {
+
+    private static final String BASE_PATH = "/api/admin/reconciliation";
+
+    private final RestClient restClient;
+
+    public ReconciliationPeerClient(
+            @Value("${banking.reconciliation.peer.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${banking.reconciliation.peer.read-timeout-ms:300000}") long readTimeoutMs) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(Duration.ofMillis(connectTimeoutMs));
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+        this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+    }
+
+    /**
+     * Fetch the highest account ID of a peer
+     * 
+     * @param peer - Peer base URL
+     * @return Highest ID on the peer
+     * @throws ReconciliationPeerException - If the peer fails
+     */
+    public long fetchMaxId(String peer) {
+        return get(peer + BASE_PATH + "/max-id", new ParameterizedTypeReference<ApiResponse<Long>>() { });
+    }
+
+    /**
+     * Fetch a peer's tree over a range
+     * 
+     * @param peer - Peer base URL
+     * @param fromId - First ID of the range
+     * @param toId - Last ID of the range, inclusive
+     * @param leaves - Number of leaves
+     * @return Peer tree
+     * @throws ReconciliationPeerException - If the peer fails
+     */
+    public MerkleTreeDto fetchTree(String peer, long fromId, long toId, int leaves) {
+        return get(peer + BASE_PATH + "/tree?fromId=" + fromId + "&toId=" + toId + "&leaves=" + leaves,
+                new ParameterizedTypeReference<ApiResponse<MerkleTreeDto>>() { });
+    }
+
+    /**
+     * Fetch a peer's row hashes over a small range
+     * 
+     * @param peer - Peer base URL
+     * @param fromId - First ID of the range
+     * @param toId - Last ID of the range, inclusive
+     * @return Peer row hashes in ID order
+     * @throws ReconciliationPeerException - If the peer fails
+     */
+    public List<RowDigestDto> fetchRows(String peer, long fromId, long toId) {
+        return get(peer + BASE_PATH + "/rows?fromId=" + fromId + "&toId=" + toId,
+                new ParameterizedTypeReference<ApiResponse<List<RowDigestDto>>>() { });
+    }
+
+    private <T> T get(String uri, ParameterizedTypeReference<ApiResponse<T>> type) {
+        ApiResponse<T> response;
+        try {
+            response = restClient.get().uri(uri).retrieve().body(type);
+        } catch (RestClientException ex) {
+            throw new ReconciliationPeerException("Request to " + uri + " failed: " + ex.getMessage(), ex);
+        }
+        if (response == null || response.getData() == null) {
+            throw new ReconciliationPeerException("Request to " + uri + " returned no data");
+        }
+        return response.getData();
+    }
+}
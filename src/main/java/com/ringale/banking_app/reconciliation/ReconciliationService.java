@@ -0,0 +1,193 @@
+package com.ringale.banking_app.reconciliation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.ringale.banking_app.dto.MerkleLeafDto;
+import com.ringale.banking_app.dto.MerkleTreeDto;
+import com.ringale.banking_app.dto.ReconciliationReportDto;
+import com.ringale.banking_app.dto.RowDigestDto;
+import com.ringale.banking_app.exception.InvalidReconciliationRequestException;
+import com.ringale.banking_app.exception.ReconciliationPeerException;
+
+/**
+ * Reconciles the accounts table with a peer instance by comparing Merkle trees.
+ * Trees over the same range are built here and on the peer at the same time;
+ * only leaves whose hashes differ are split again, so matching data costs
+ * one tree per side and a single differing row costs a few trees down to a
+ * range small enough to compare row by row. Peers must be configured in
+ * banking.reconciliation.peers; arbitrary URLs are refused.
+ */
+@Service
+@ConditionalOnProperty(name = "banking.reconciliation.enabled", havingValue = "true")
+public class ReconciliationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReconciliationService.class);
+
+    private final MerkleTreeBuilder treeBuilder;
+    private final ReconciliationPeerClient peerClient;
+    private final Set<String> peers;
+    private final int defaultLeaves;
+    private final int maxDifferences;
+
+    @Autowired
+    public ReconciliationService(MerkleTreeBuilder treeBuilder, ReconciliationPeerClient peerClient,
+            @Value("${banking.reconciliation.peers:}") List<String> peers,
+            @Value("${banking.reconciliation.default-leaves:256}") int defaultLeaves,
+            @Value("${banking.reconciliation.max-differences:1000}") int maxDifferences) {
+        this.treeBuilder = treeBuilder;
+        this.peerClient = peerClient;
+        this.peers = new LinkedHashSet<>();
+        for (String peer : peers) {
+            if (!peer.isBlank()) {
+                this.peers.add(normalize(peer));
+            }
+        }
+        this.defaultLeaves = defaultLeaves;
+        this.maxDifferences = maxDifferences;
+    }
+
+    /**
+     * Build this instance's tree
+     * 
+     * @param fromId - First ID, or null for 1
+     * @param toId - Last ID, inclusive, or null for the highest ID
+     * @param leaves - Number of leaves, or null for the default
+     * @return Tree over the range
+     */
+    public MerkleTreeDto tree(Long fromId, Long toId, Integer leaves) {
+        long from = fromId != null ? fromId : 1;
+        long to = toId != null ? toId : Math.max(from, treeBuilder.maxId());
+        return treeBuilder.build(from, to, leaves != null ? leaves : defaultLeaves);
+    }
+
+    /**
+     * Compare the accounts table with a peer, drilling down into differing ranges
+     * 
+     * @param peer - Peer base URL, one of the configured peers
+     * @param fromId - First ID, or null for 1
+     * @param toId - Last ID, inclusive, or null for the highest ID on either side
+     * @param leaves - Leaves per tree, or null for the default
+     * @return Differences found
+     * @throws InvalidReconciliationRequestException - If the peer is not configured or the arguments are invalid
+     * @throws ReconciliationPeerException - If the peer fails or returns a tree of a different shape
+     */
+    public ReconciliationReportDto compare(String peer, Long fromId, Long toId, Integer leaves) {
+        String target = normalize(peer);
+        if (!peers.contains(target)) {
+            throw new InvalidReconciliationRequestException("Peer is not configured: " + peer);
+        }
+        int fanout = leaves != null ? leaves : defaultLeaves;
+        if (fanout < 2) {
+            throw new InvalidReconciliationRequestException("Comparing needs at least 2 leaves per tree");
+        }
+        long from = fromId != null ? fromId : 1;
+        long to = toId != null ? toId : Math.max(from, Math.max(treeBuilder.maxId(), peerClient.fetchMaxId(target)));
+        logger.info("Reconciling accounts {} to {} with {}", from, to, target);
+        
+        Comparison comparison = new Comparison();
+        Deque<long[]> pending = new ArrayDeque<>();
+        pending.push(new long[] { from, to });
+        while (!pending.isEmpty() && !comparison.truncated) {
+            long[] range = pending.pop();
+            if (range[1] - range[0] < treeBuilder.getMaxRowRange()) {
+                compareRows(comparison, target, range[0], range[1]);
+                continue;
+            }
+            CompletableFuture<MerkleTreeDto> localTree = treeBuilder.buildAsync(range[0], range[1], fanout);
+            MerkleTreeDto peerTree = peerClient.fetchTree(target, range[0], range[1], fanout);
+            MerkleTreeDto tree = MerkleTreeBuilder.await(localTree);
+            comparison.treesCompared++;
+            if (tree.getRoot().equals(peerTree.getRoot())) {
+                continue;
+            }
+            List<MerkleLeafDto> localLeaves = tree.getLeaves();
+            List<MerkleLeafDto> peerLeaves = peerTree.getLeaves();
+            if (localLeaves.size() != peerLeaves.size()) {
+                throw new ReconciliationPeerException("Peer returned " + peerLeaves.size() + " leaves for IDs "
+                        + range[0] + " to " + range[1] + ", expected " + localLeaves.size());
+            }
+            // Pushed in reverse so ranges are drilled into in ascending ID order
+            for (int i = localLeaves.size() - 1; i >= 0; i--) {
+                MerkleLeafDto leaf = localLeaves.get(i);
+                if (!leaf.getHash().equals(peerLeaves.get(i).getHash())) {
+                    pending.push(new long[] { leaf.getFromId(), leaf.getToId() });
+                }
+            }
+        }
+        
+        boolean consistent = comparison.mismatched.isEmpty() && comparison.missingLocally.isEmpty()
+                && comparison.missingOnPeer.isEmpty();
+        logger.info("Reconciled accounts {} to {} with {}: {} mismatched, {} missing locally, {} missing on peer, "
+                + "{} trees and {} rows compared", from, to, target, comparison.mismatched.size(),
+                comparison.missingLocally.size(), comparison.missingOnPeer.size(), comparison.treesCompared,
+                comparison.rowsCompared);
+        return new ReconciliationReportDto(target, from, to, consistent, comparison.mismatched,
+                comparison.missingLocally, comparison.missingOnPeer, comparison.treesCompared,
+                comparison.rowsCompared, comparison.truncated);
+    }
+
+    private void compareRows(Comparison comparison, String peer, long fromId, long toId) {
+        Map<Long, Long> localRows = new HashMap<>();
+        for (RowDigestDto row : treeBuilder.rowDigests(fromId, toId)) {
+            localRows.put(row.getId(), row.getHash());
+        }
+        Map<Long, Long> peerRows = new HashMap<>();
+        for (RowDigestDto row : peerClient.fetchRows(peer, fromId, toId)) {
+            peerRows.put(row.getId(), row.getHash());
+        }
+        TreeSet<Long> ids = new TreeSet<>(localRows.keySet());
+        ids.addAll(peerRows.keySet());
+        comparison.rowsCompared += ids.size();
+        for (Long id : ids) {
+            Long localHash = localRows.get(id);
+            Long peerHash = peerRows.get(id);
+            if (localHash == null) {
+                comparison.add(comparison.missingLocally, id);
+            } else if (peerHash == null) {
+                comparison.add(comparison.missingOnPeer, id);
+            } else if (!localHash.equals(peerHash)) {
+                comparison.add(comparison.mismatched, id);
+            }
+            if (comparison.truncated) {
+                return;
+            }
+        }
+    }
+
+    private static String normalize(String peer) {
+        String trimmed = peer.trim();
+        return trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+    }
+
+    private final class Comparison {
+        private final List<Long> mismatched = new ArrayList<>();
+        private final List<Long> missingLocally = new ArrayList<>();
+        private final List<Long> missingOnPeer = new ArrayList<>();
+        private int treesCompared;
+        private long rowsCompared;
+        private boolean truncated;
+
+        private void add(List<Long> differences, Long id) {
+            differences.add(id);
+            if (mismatched.size() + missingLocally.size() + missingOnPeer.size() >= maxDifferences) {
+                truncated = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.ringale.banking_app.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import com.ringale.banking_app.entity.Account;
+
+/**
+ * Digest queries for reconciling the accounts table between environments.
+ * Every row is hashed and aggregated inside the database so only a few
+ * numbers per ID range cross the wire. The row hash mixes ID, balances,
+ * version and currency with modular arithmetic over 3037000493, the largest
+ * prime below the square root of 2^63, so a product of two residues never
+ * overflows a BIGINT and the result is the same on MySQL and H2. The modulus
+ * is too large for an INTEGER, which also keeps H2 from narrowing the
+ * intermediate results. Account fields are multiplied by a function of the
+ * ID, so balances swapped between accounts change the sum. Archived accounts
+ * hash the same columns the same way, so an account contributes the same
+ * value whether it is in accounts or accounts_archive.
+ */
+public interface AccountDigestRepository extends Repository<Account, Long> {
+
+    String ROW_HASH = "cast(mod(mod("
+            + "mod(mod(cast(round(a.balance * 100, 0) as Long), 3037000493L) * 1103515245, 3037000493L)"
+            + " + mod(mod(cast(round(a.heldBalance * 100, 0) as Long), 3037000493L) * 69069, 3037000493L)"
+            + " + mod(mod(a.version, 3037000493L) * 40503, 3037000493L)"
+            + " + ascii(substring(a.currency, 1, 1)) * 65536 + ascii(substring(a.currency, 2, 1)) * 256"
+            + " + ascii(substring(a.currency, 3, 1)), 3037000493L)"
+            + " * mod(mod(a.id, 3037000493L) * 48271 + 11, 3037000493L), 3037000493L) as Long)";
+
+    String RANGE_DIGEST = "select new com.ringale.banking_app.repository.AccountRangeDigest(count(a), "
+            + "coalesce(sum(" + ROW_HASH + "), 0), coalesce(sum(cast(round(a.balance * 100, 0) as Long)), 0)) ";
+
+    String ROW_DIGESTS = "select new com.ringale.banking_app.repository.AccountRowDigest(a.id, " + ROW_HASH + ") ";
+
+    @Query(RANGE_DIGEST + "from Account a where a.id between :fromId and :toId")
+    AccountRangeDigest digestAccounts(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    @Query(RANGE_DIGEST + "from ArchivedAccount a where a.id between :fromId and :toId")
+    AccountRangeDigest digestArchivedAccounts(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    @Query(ROW_DIGESTS + "from Account a where a.id between :fromId and :toId order by a.id")
+    List<AccountRowDigest> findAccountRowDigests(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    @Query(ROW_DIGESTS + "from ArchivedAccount a where a.id between :fromId and :toId order by a.id")
+    List<AccountRowDigest> findArchivedRowDigests(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    @Query("select coalesce(max(a.id), 0) from Account a")
+    long findMaxAccountId();
+
+    @Query("select coalesce(max(a.id), 0) from ArchivedAccount a")
+    long findMaxArchivedId();
+}
@@ -0,0 +1,13 @@
+package com.ringale.banking_app.repository;
+
+/**
+ * Aggregate digest of the accounts in an ID range: row count, sum of the
+ * per-row hashes and sum of balances in cents.
+ */
+public record AccountRangeDigest(long count, long checksum, long balanceCents) {
+
+    public AccountRangeDigest plus(AccountRangeDigest other) {
+        return new AccountRangeDigest(count + other.count, checksum + other.checksum,
+                balanceCents + other.balanceCents);
+    }
+}
@@ -1,9 +1,37 @@
 package com.ringale.banking_app.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.ringale.banking_app.entity.Account;
 
 public interface AccountRepository extends JpaRepository<Account, Long> {
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Account a where a.id = :id")
+    Optional<Account> findByIdForUpdate(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Account a where a.id in :ids order by a.id")
+    List<Account> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Query("select a.version from Account a where a.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("select a.id from Account a where a.id > :afterId order by a.id")
+    List<Long> findIdsAfter(@Param("afterId") long afterId, Limit limit);
+
+    @Query("select a.id from Account a where a.id > :afterId and a.heldBalance = 0 "
+            + "and coalesce(a.updatedAt, a.createdAt) < :cutoff order by a.id")
+    List<Long> findDormantIdsAfter(@Param("afterId") long afterId, @Param("cutoff") LocalDateTime cutoff,
+            Limit limit);
 }
@@ -0,0 +1,7 @@
+package com.ringale.banking_app.repository;
+
+/**
+ * Projection of an account's id and per-row hash.
+ */
+public record AccountRowDigest(Long id, Long hash) {
+}
@@ -0,0 +1,43 @@
+package com.ringale.banking_app.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.ringale.banking_app.entity.ArchivedAccount;
+
+public interface ArchivedAccountRepository extends JpaRepository<ArchivedAccount, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from ArchivedAccount a where a.id = :id")
+    Optional<ArchivedAccount> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("select a.id from ArchivedAccount a where a.id in :ids")
+    List<Long> findIdsIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select a.id from ArchivedAccount a where a.id > :afterId order by a.id")
+    List<Long> findIdsAfter(@Param("afterId") long afterId, Limit limit);
+
+    @Modifying
+    @Query(nativeQuery = true, value = "insert into accounts_archive "
+            + "(id, account_owner, currency, balance, held_balance, version, created_at, updated_at, archived_at) "
+            + "select id, account_owner, currency, balance, held_balance, version, created_at, updated_at, :archivedAt "
+            + "from accounts where id in (:ids)")
+    int copyFromAccounts(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying
+    @Query(nativeQuery = true, value = "insert into accounts "
+            + "(id, account_owner, currency, balance, held_balance, version, created_at, updated_at) "
+            + "select id, account_owner, currency, balance, held_balance, version, created_at, :restoredAt "
+            + "from accounts_archive where id = :id")
+    int restoreToAccounts(@Param("id") Long id, @Param("restoredAt") LocalDateTime restoredAt);
+}
@@ -0,0 +1,36 @@
+package com.ringale.banking_app.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.ringale.banking_app.entity.FundHold;
+import com.ringale.banking_app.entity.HoldStatus;
+
+public interface FundHoldRepository extends JpaRepository<FundHold, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select h from FundHold h where h.id = :id")
+    Optional<FundHold> findByIdForUpdate(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select h from FundHold h where h.id in :ids and h.status = :status and h.expiresAt <= :now order by h.id")
+    List<FundHold> findExpiredForUpdate(@Param("ids") Collection<Long> ids, @Param("status") HoldStatus status,
+            @Param("now") LocalDateTime now);
+
+    @Query("select new com.ringale.banking_app.repository.HoldExpiry(h.id, h.expiresAt) "
+            + "from FundHold h where h.status = :status")
+    List<HoldExpiry> findExpiriesByStatus(@Param("status") HoldStatus status);
+
+    @Query("select h.id from FundHold h where h.status = :status and h.expiresAt <= :before order by h.expiresAt")
+    List<Long> findIdsDueBefore(@Param("status") HoldStatus status, @Param("before") LocalDateTime before,
+            Limit limit);
+}
@@ -0,0 +1,9 @@
+package com.ringale.banking_app.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a hold's id and expiry time.
+ */
+public record HoldExpiry(Long id, LocalDateTime expiresAt) {
+}
@@ -0,0 +1,96 @@
+package com.ringale.banking_app.risk;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free sliding-window counter of events and amounts over a ring of buckets.
+ * Each slot packs the bucket number it belongs to (low 24 bits of the epoch)
+ * together with its value into one long, so resetting a stale slot and adding
+ * to it is a single CAS and increments are never lost.
+ * The window is approximate to one bucket: it covers the current bucket plus
+ * the previous {@code buckets - 1}. An add can be undone with {@link #remove},
+ * which lets callers reserve first and check the totals afterwards.
+ */
+class SlidingWindowCounter {
+
+    private static final int EPOCH_BITS = 24;
+    private static final int VALUE_BITS = 64 - EPOCH_BITS;
+    private static final long EPOCH_MASK = (1L << EPOCH_BITS) - 1;
+    private static final long VALUE_MASK = (1L << VALUE_BITS) - 1;
+
+    private final long bucketMs;
+    private final int buckets;
+    private final AtomicLongArray counts;
+    private final AtomicLongArray amounts;
+
+    SlidingWindowCounter(long windowMs, int buckets) {
+        this.bucketMs = windowMs / buckets;
+        this.buckets = buckets;
+        this.counts = new AtomicLongArray(buckets);
+        this.amounts = new AtomicLongArray(buckets);
+    }
+
+    void add(long nowMs, long amountCents) {
+        long bucket = nowMs / bucketMs;
+        int slot = (int) (bucket % buckets);
+        add(counts, slot, bucket, 1);
+        add(amounts, slot, bucket, amountCents);
+    }
+
+    /**
+     * Undo an add made at the same time. Nothing is removed once the bucket
+     * has been reused, since its value no longer contains the add.
+     */
+    void remove(long nowMs, long amountCents) {
+        long bucket = nowMs / bucketMs;
+        int slot = (int) (bucket % buckets);
+        remove(counts, slot, bucket, 1);
+        remove(amounts, slot, bucket, amountCents);
+    }
+
+    long count(long nowMs) {
+        return sum(counts, nowMs / bucketMs);
+    }
+
+    long amountCents(long nowMs) {
+        return sum(amounts, nowMs / bucketMs);
+    }
+
+    private void add(AtomicLongArray values, int slot, long bucket, long delta) {
+        long epoch = bucket & EPOCH_MASK;
+        while (true) {
+            long current = values.get(slot);
+            long base = (current >>> VALUE_BITS) == epoch ? current & VALUE_MASK : 0;
+            long updated = (epoch << VALUE_BITS) | Math.min(VALUE_MASK, base + delta);
+            if (values.compareAndSet(slot, current, updated)) {
+                return;
+            }
+        }
+    }
+
+    private void remove(AtomicLongArray values, int slot, long bucket, long delta) {
+        long epoch = bucket & EPOCH_MASK;
+        while (true) {
+            long current = values.get(slot);
+            if ((current >>> VALUE_BITS) != epoch) {
+                return;
+            }
+            long updated = (epoch << VALUE_BITS) | Math.max(0, (current & VALUE_MASK) - delta);
+            if (values.compareAndSet(slot, current, updated)) {
+                return;
+            }
+        }
+    }
+
+    private long sum(AtomicLongArray values, long bucket) {
+        long total = 0;
+        for (int slot = 0; slot < buckets; slot++) {
+            long current = values.get(slot);
+            long age = ((bucket & EPOCH_MASK) - (current >>> VALUE_BITS)) & EPOCH_MASK;
+            if (age < buckets) {
+                total += current & VALUE_MASK;
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,174 @@
+package com.ringale.banking_app.risk;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ringale.banking_app.exception.VelocityLimitExceededException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * In-memory velocity rules for withdrawals: at most N withdrawals and X total
+ * amount per account per sliding minute and hour. Amounts and limits are in
+ * the base currency, so callers convert before checking.
+ * Attempts are counted when they pass the check, before the balance check,
+ * so repeated failed attempts also consume the allowance. A withdrawal is
+ * reserved in the windows first and the totals are checked afterwards, so
+ * concurrent withdrawals cannot all pass the same remaining allowance; a
+ * rejected reservation is rolled back. Counters of accounts idle for longer
+ * than an hour are evicted; when the tracked-account limit is still reached,
+ * the least recently seen of a sample of accounts is evicted to make room.
+ */
+@Component
+public class VelocityChecker {
+
+    private static final Logger logger = LoggerFactory.getLogger(VelocityChecker.class);
+    private static final long MINUTE_MS = 60_000L;
+    private static final long HOUR_MS = 3_600_000L;
+    private static final int BUCKETS = 12;
+    private static final int EVICTION_SAMPLE = 16;
+
+    private final ConcurrentHashMap<Long, AccountVelocity> accounts = new ConcurrentHashMap<>();
+    private final VelocityLimits limits;
+    private final int maxTrackedAccounts;
+    private final LongSupplier clock;
+    private final Counter rejected;
+    private final Counter evicted;
+    private final AtomicBoolean saturated = new AtomicBoolean();
+
+    @Autowired
+    public VelocityChecker(MeterRegistry meterRegistry,
+            @Value("${banking.velocity.per-minute.max-count:10}") long maxPerMinute,
+            @Value("${banking.velocity.per-minute.max-amount:10000}") double maxAmountPerMinute,
+            @Value("${banking.velocity.per-hour.max-count:60}") long maxPerHour,
+            @Value("${banking.velocity.per-hour.max-amount:50000}") double maxAmountPerHour,
+            @Value("${banking.velocity.max-tracked-accounts:100000}") int maxTrackedAccounts) {
+        this(meterRegistry, new VelocityLimits(maxPerMinute, toCents(maxAmountPerMinute), maxPerHour,
+                toCents(maxAmountPerHour)), maxTrackedAccounts, System::currentTimeMillis);
+    }
+
+    VelocityChecker(MeterRegistry meterRegistry, VelocityLimits limits, int maxTrackedAccounts, LongSupplier clock) {
+        this.limits = limits;
+        this.maxTrackedAccounts = maxTrackedAccounts;
+        this.clock = clock;
+        this.rejected = Counter.builder("banking.velocity.rejected").register(meterRegistry);
+        this.evicted = Counter.builder("banking.velocity.evicted").register(meterRegistry);
+        Gauge.builder("banking.velocity.tracked-accounts", accounts, ConcurrentHashMap::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Check a withdrawal against the velocity rules and count it if allowed
+     * 
+     * @param accountId - Account ID
+     * @param amount - Withdrawal amount in the base currency
+     * @throws VelocityLimitExceededException - If a rule would be broken
+     */
+    public void check(Long accountId, double amount) {
+        long now = clock.getAsLong();
+        AccountVelocity velocity = accounts.get(accountId);
+        if (velocity == null) {
+            if (accounts.size() >= maxTrackedAccounts) {
+                evictIdle();
+                if (accounts.size() >= maxTrackedAccounts) {
+                    evictLeastRecentlySeen();
+                }
+            }
+            velocity = accounts.computeIfAbsent(accountId, id -> new AccountVelocity());
+        }
+        velocity.lastSeenMs = now;
+
+        long amountCents = toCents(amount);
+        velocity.minute.add(now, amountCents);
+        velocity.hour.add(now, amountCents);
+        String violation = violation(velocity, now);
+        if (violation != null) {
+            velocity.minute.remove(now, amountCents);
+            velocity.hour.remove(now, amountCents);
+            rejected.increment();
+            logger.warn("Velocity limit exceeded for account {}: {}", accountId, violation);
+            throw new VelocityLimitExceededException(violation + " for account ID: " + accountId);
+        }
+    }
+
+    /**
+     * Drop counters of accounts without withdrawals in the last hour
+     */
+    @Scheduled(fixedDelayString = "${banking.velocity.eviction-interval-ms:60000}")
+    public void evictIdle() {
+        long cutoff = clock.getAsLong() - HOUR_MS;
+        accounts.values().removeIf(velocity -> velocity.lastSeenMs < cutoff);
+        if (accounts.size() < maxTrackedAccounts && saturated.compareAndSet(true, false)) {
+            logger.info("Velocity tracking back below {} accounts", maxTrackedAccounts);
+        }
+    }
+
+    int trackedAccounts() {
+        return accounts.size();
+    }
+
+    /**
+     * Evict the account seen least recently among a sample, so a full table
+     * keeps tracking new accounts instead of letting their withdrawals through
+     */
+    private void evictLeastRecentlySeen() {
+        Long oldestId = null;
+        long oldestSeenMs = Long.MAX_VALUE;
+        int sampled = 0;
+        for (var entry : accounts.entrySet()) {
+            if (entry.getValue().lastSeenMs < oldestSeenMs) {
+                oldestId = entry.getKey();
+                oldestSeenMs = entry.getValue().lastSeenMs;
+            }
+            if (++sampled == EVICTION_SAMPLE) {
+                break;
+            }
+        }
+        if (oldestId != null && accounts.remove(oldestId) != null) {
+            evicted.increment();
+        }
+        if (saturated.compareAndSet(false, true)) {
+            logger.warn("Velocity tracking reached {} accounts, evicting active accounts to make room",
+                    maxTrackedAccounts);
+        }
+    }
+
+    private String violation(AccountVelocity velocity, long now) {
+        if (velocity.minute.count(now) > limits.maxPerMinute()) {
+            return "Too many withdrawals in the last minute";
+        }
+        if (velocity.minute.amountCents(now) > limits.maxCentsPerMinute()) {
+            return "Withdrawal amount limit per minute exceeded";
+        }
+        if (velocity.hour.count(now) > limits.maxPerHour()) {
+            return "Too many withdrawals in the last hour";
+        }
+        if (velocity.hour.amountCents(now) > limits.maxCentsPerHour()) {
+            return "Withdrawal amount limit per hour exceeded";
+        }
+        return null;
+    }
+
+    private static long toCents(double amount) {
+        return Math.round(amount * 100);
+    }
+
+    record VelocityLimits(long maxPerMinute, long maxCentsPerMinute, long maxPerHour, long maxCentsPerHour) {
+    }
+
+    private static final class AccountVelocity {
+        private final SlidingWindowCounter minute = new SlidingWindowCounter(MINUTE_MS, BUCKETS);
+        private final SlidingWindowCounter hour = new SlidingWindowCounter(HOUR_MS, BUCKETS);
+        private volatile long lastSeenMs;
+    }
+}
@@ -1,13 +1,28 @@
 package com.ringale.banking_app.service;
 
+import java.util.List;
+import java.util.Optional;
+
 import com.ringale.banking_app.dto.AccountDto;
+import com.ringale.banking_app.dto.AccountLookupDto;
+import com.ringale.banking_app.dto.TransferDto;
 
 public interface AccountService {
     AccountDto createAccount(AccountDto accountDto);
 
     AccountDto getAccountById(Long id);
 
+    Optional<Long> getAccountVersion(Long id);
+
+    AccountLookupDto lookupAccounts(List<Long> ids);
+
     AccountDto depositAmount(Long id, double amount);
 
+    AccountDto depositAmount(Long id, double amount, String currency);
+
     AccountDto withDrawAmount(Long id, double amount);
+
+    AccountDto withDrawAmount(Long id, double amount, String currency);
+
+    TransferDto transfer(Long fromId, Long toId, double amount, String currency);
 }
@@ -0,0 +1,17 @@
+package com.ringale.banking_app.service;
+
+import java.util.List;
+
+import com.ringale.banking_app.dto.HoldDto;
+
+public interface HoldService {
+    HoldDto placeHold(Long accountId, double amount, Long ttlSeconds);
+
+    HoldDto getHold(Long accountId, Long holdId);
+
+    HoldDto captureHold(Long accountId, Long holdId, Double amount);
+
+    HoldDto releaseHold(Long accountId, Long holdId);
+
+    int expireHolds(List<Long> holdIds);
+}
@@ -1,34 +1,72 @@
 package com.ringale.banking_app.service.impl;
 
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.ringale.banking_app.archive.AccountArchiver;
 import com.ringale.banking_app.dto.AccountDto;
+import com.ringale.banking_app.dto.AccountLookupDto;
+import com.ringale.banking_app.dto.TransferDto;
 import com.ringale.banking_app.entity.Account;
+import com.ringale.banking_app.entity.AccountEventType;
 import com.ringale.banking_app.exception.AccountNotFoundException;
+import com.ringale.banking_app.exception.CurrencyMismatchException;
+import com.ringale.banking_app.exception.FxRateUnavailableException;
 import com.ringale.banking_app.exception.InsufficientBalanceException;
 import com.ringale.banking_app.exception.InvalidAccountException;
+import com.ringale.banking_app.exception.VelocityLimitExceededException;
+import com.ringale.banking_app.fx.FxConversion;
+import com.ringale.banking_app.fx.FxRateCache;
 import com.ringale.banking_app.mapper.AccountMapper;
+import com.ringale.banking_app.membership.AccountIdFilter;
+import com.ringale.banking_app.outbox.AccountEventRecorder;
+import com.ringale.banking_app.profiling.AccountOperationEvent;
 import com.ringale.banking_app.repository.AccountRepository;
+import com.ringale.banking_app.risk.VelocityChecker;
 import com.ringale.banking_app.service.AccountService;
 
 /**
  * Service implementation for Account operations.
  * Handles business logic, validation, and transaction management.
+ * Accounts moved to the archive table are rehydrated transparently when
+ * they are read or updated. Each operation is also recorded as a JFR event
+ * while a recording is running.
  */
 @Service
 @Transactional
 public class AccountServiceImpl implements AccountService {
     
     private static final Logger logger = LoggerFactory.getLogger(AccountServiceImpl.class);
+    private static final int LOOKUP_CHUNK_SIZE = 500;
     private AccountRepository accountRepository;
+    private AccountEventRecorder accountEventRecorder;
+    private VelocityChecker velocityChecker;
+    private FxRateCache fxRateCache;
+    private AccountIdFilter accountIdFilter;
+    private AccountArchiver accountArchiver;
 
     @Autowired
-    public AccountServiceImpl(AccountRepository accountRepository) {
+    public AccountServiceImpl(AccountRepository accountRepository, AccountEventRecorder accountEventRecorder,
+            VelocityChecker velocityChecker, FxRateCache fxRateCache, AccountIdFilter accountIdFilter,
+            AccountArchiver accountArchiver) {
         this.accountRepository = accountRepository;
+        this.accountEventRecorder = accountEventRecorder;
+        this.velocityChecker = velocityChecker;
+        this.fxRateCache = fxRateCache;
+        this.accountIdFilter = accountIdFilter;
+        this.accountArchiver = accountArchiver;
     }
 
     /**
@@ -41,6 +79,7 @@ public class AccountServiceImpl implements AccountService {
     @Override
     @Transactional
     public AccountDto createAccount(AccountDto accountDto) {
+        AccountOperationEvent.begin("CREATE", null);
         logger.info("Creating new account for: {}", accountDto.getAccountOwner());
         
         // Validate input
@@ -54,8 +93,15 @@ public class AccountServiceImpl implements AccountService {
             throw new InvalidAccountException("Initial balance cannot be negative");
         }
         
+        if (accountDto.getCurrency() != null && !isKnownCurrency(accountDto.getCurrency())) {
+            logger.error("Unknown currency: {}", accountDto.getCurrency());
+            throw new InvalidAccountException("Unknown currency: " + accountDto.getCurrency());
+        }
+        
         Account account = AccountMapper.mapToAccount(accountDto);
         Account savedAccount = accountRepository.save(account);
+        accountEventRecorder.record(savedAccount, AccountEventType.ACCOUNT_CREATED, savedAccount.getBalance());
+        accountIdFilter.add(savedAccount.getId());
         
         logger.info("Account created successfully with ID: {}", savedAccount.getId());
         return AccountMapper.mapToAccountDto(savedAccount);
@@ -69,8 +115,9 @@ public class AccountServiceImpl implements AccountService {
      * @throws AccountNotFoundException - If account doesn't exist
      */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AccountDto getAccountById(Long id) {
+        AccountOperationEvent.begin("GET", id);
         logger.info("Fetching account with ID: {}", id);
         
         if (id == null || id <= 0) {
@@ -78,8 +125,13 @@ public class AccountServiceImpl implements AccountService {
             throw new InvalidAccountException("Account ID must be positive");
         }
         
+        rejectUnknownAccount(id);
+        // Reads run without an enclosing transaction, so restoring an archived
+        // account never holds a second connection while the first one waits
         Account account = accountRepository.findById(id)
+                .or(() -> accountArchiver.rehydrateInNewTransaction(id))
                 .orElseThrow(() -> {
+                    accountIdFilter.recordFalsePositive();
                     logger.error("Account not found with ID: {}", id);
                     return new AccountNotFoundException("Account not found with ID: " + id);
                 });
@@ -89,7 +141,75 @@ public class AccountServiceImpl implements AccountService {
     }
 
     /**
-     * Deposit amount to account
+     * Retrieve the current version of an account without loading the entity
+     * 
+     * @param id - Account ID
+     * @return Account version, or empty if the account doesn't exist
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Long> getAccountVersion(Long id) {
+        if (id == null || !accountIdFilter.mightExist(id)) {
+            return Optional.empty();
+        }
+        return accountRepository.findVersionById(id);
+    }
+
+    /**
+     * Retrieve many accounts in chunked read-only queries, then restore archived ones
+     * 
+     * @param ids - Account IDs, duplicates are ignored
+     * @return Found accounts keyed by ID and the IDs that do not exist
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AccountLookupDto lookupAccounts(List<Long> ids) {
+        AccountOperationEvent.begin("LOOKUP", null);
+        logger.info("Looking up {} accounts", ids.size());
+        
+        List<Long> uniqueIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        List<Long> candidates = new ArrayList<>(uniqueIds.size());
+        for (Long id : uniqueIds) {
+            if (accountIdFilter.mightExist(id)) {
+                candidates.add(id);
+            }
+        }
+        
+        Map<Long, AccountDto> accounts = new HashMap<>(candidates.size() * 2);
+        for (int from = 0; from < candidates.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<Long> chunk = candidates.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, candidates.size()));
+            for (Account account : accountRepository.findAllById(chunk)) {
+                accounts.put(account.getId(), AccountMapper.mapToAccountDto(account));
+            }
+        }
+        
+        List<Long> missing = new ArrayList<>();
+        for (Long id : candidates) {
+            if (!accounts.containsKey(id)) {
+                missing.add(id);
+            }
+        }
+        for (int from = 0; from < missing.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<Long> chunk = missing.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, missing.size()));
+            for (Long id : accountArchiver.findArchivedIds(chunk)) {
+                accountArchiver.rehydrateInNewTransaction(id)
+                        .ifPresent(account -> accounts.put(id, AccountMapper.mapToAccountDto(account)));
+            }
+        }
+        
+        List<Long> notFound = new ArrayList<>();
+        for (Long id : uniqueIds) {
+            if (!accounts.containsKey(id)) {
+                notFound.add(id);
+            }
+        }
+        
+        logger.info("Lookup found {} accounts, {} missing", accounts.size(), notFound.size());
+        return new AccountLookupDto(accounts, notFound);
+    }
+
+    /**
+     * Deposit amount to account in the account currency
      * 
      * @param id - Account ID
      * @param amount - Amount to deposit
@@ -100,6 +220,24 @@ public class AccountServiceImpl implements AccountService {
     @Override
     @Transactional
     public AccountDto depositAmount(Long id, double amount) {
+        return depositAmount(id, amount, null);
+    }
+
+    /**
+     * Deposit amount to account
+     * 
+     * @param id - Account ID
+     * @param amount - Amount to deposit
+     * @param currency - Currency of the amount, or null for the account currency
+     * @return Updated account DTO
+     * @throws AccountNotFoundException - If account doesn't exist
+     * @throws InvalidAccountException - If amount is invalid
+     * @throws CurrencyMismatchException - If currency differs from the account currency
+     */
+    @Override
+    @Transactional
+    public AccountDto depositAmount(Long id, double amount, String currency) {
+        AccountOperationEvent.begin("DEPOSIT", id);
         logger.info("Processing deposit of {} for account ID: {}", amount, id);
         
         // Validate amount
@@ -108,33 +246,62 @@ public class AccountServiceImpl implements AccountService {
             throw new InvalidAccountException("Deposit amount must be positive");
         }
         
-        Account account = accountRepository.findById(id)
+        rejectUnknownAccount(id);
+        // Locked like holds are, so the held balance read here is current when the row is written back
+        Account account = accountRepository.findByIdForUpdate(id)
+                .or(() -> accountArchiver.rehydrate(id))
                 .orElseThrow(() -> {
+                    accountIdFilter.recordFalsePositive();
                     logger.error("Account not found for deposit with ID: {}", id);
                     return new AccountNotFoundException("Account not found with ID: " + id);
                 });
+        requireCurrency(account, currency);
         
         double newBalance = account.getBalance() + amount;
         account.setBalance(newBalance);
         Account savedAccount = accountRepository.save(account);
+        accountEventRecorder.record(savedAccount, AccountEventType.DEPOSITED, amount);
         
         logger.info("Deposit successful. New balance for account {}: {}", id, newBalance);
         return AccountMapper.mapToAccountDto(savedAccount);
     }
 
     /**
-     * Withdraw amount from account
+     * Withdraw amount from account in the account currency
      * 
      * @param id - Account ID
      * @param amount - Amount to withdraw
      * @return Updated account DTO
      * @throws AccountNotFoundException - If account doesn't exist
      * @throws InvalidAccountException - If amount is invalid
+     * @throws VelocityLimitExceededException - If a velocity rule is broken
+     * @throws FxRateUnavailableException - If the amount cannot be converted for the velocity rules
      * @throws InsufficientBalanceException - If insufficient balance
      */
     @Override
     @Transactional
     public AccountDto withDrawAmount(Long id, double amount) {
+        return withDrawAmount(id, amount, null);
+    }
+
+    /**
+     * Withdraw amount from account
+     * 
+     * @param id - Account ID
+     * @param amount - Amount to withdraw
+     * @param currency - Currency of the amount, or null for the account currency
+     * @return Updated account DTO
+     * @throws AccountNotFoundException - If account doesn't exist
+     * @throws InvalidAccountException - If amount is invalid
+     * @throws CurrencyMismatchException - If currency differs from the account currency
+     * @throws VelocityLimitExceededException - If a velocity rule is broken
+     * @throws FxRateUnavailableException - If the amount cannot be converted for the velocity rules
+     * @throws InsufficientBalanceException - If insufficient balance
+     */
+    @Override
+    @Transactional
+    public AccountDto withDrawAmount(Long id, double amount, String currency) {
+        AccountOperationEvent.begin("WITHDRAW", id);
         logger.info("Processing withdrawal of {} from account ID: {}", amount, id);
         
         // Validate amount
@@ -143,17 +310,28 @@ public class AccountServiceImpl implements AccountService {
             throw new InvalidAccountException("Withdrawal amount must be positive");
         }
         
-        Account account = accountRepository.findById(id)
+        // Unknown IDs are rejected in memory before touching the database
+        rejectUnknownAccount(id);
+        
+        // Locked so a concurrent hold cannot change the held balance between the check and the write
+        Account account = accountRepository.findByIdForUpdate(id)
+                .or(() -> accountArchiver.rehydrate(id))
                 .orElseThrow(() -> {
+                    accountIdFilter.recordFalsePositive();
                     logger.error("Account not found for withdrawal with ID: {}", id);
                     return new AccountNotFoundException("Account not found with ID: " + id);
                 });
+        requireCurrency(account, currency);
         
-        // Check sufficient balance
-        if (account.getBalance() < amount) {
-            logger.warn("Insufficient balance. Current: {}, Requested: {}", account.getBalance(), amount);
+        // Velocity limits are set in the base currency
+        velocityChecker.check(id, fxRateCache.toBaseCurrency(amount, account.getCurrency()));
+        
+        // Check sufficient balance, excluding funds reserved by holds
+        if (account.getAvailableBalance() < amount) {
+            logger.warn("Insufficient balance. Current: {}, Held: {}, Requested: {}",
+                    account.getBalance(), account.getHeldBalance(), amount);
             throw new InsufficientBalanceException(
-                    "Insufficient balance. Current balance: " + account.getBalance() + 
+                    "Insufficient balance. Available balance: " + account.getAvailableBalance() + 
                     ", Withdrawal amount: " + amount
             );
         }
@@ -161,8 +339,116 @@ public class AccountServiceImpl implements AccountService {
         double newBalance = account.getBalance() - amount;
         account.setBalance(newBalance);
         Account savedAccount = accountRepository.save(account);
+        accountEventRecorder.record(savedAccount, AccountEventType.WITHDRAWN, amount);
         
         logger.info("Withdrawal successful. New balance for account {}: {}", id, newBalance);
         return AccountMapper.mapToAccountDto(savedAccount);
     }
+
+    /**
+     * Transfer amount between accounts, converting to the target currency
+     * 
+     * @param fromId - Source account ID
+     * @param toId - Target account ID
+     * @param amount - Amount to debit, in the source account currency
+     * @param currency - Currency of the amount, or null for the source account currency
+     * @return Both accounts after the transfer and the conversion applied
+     * @throws AccountNotFoundException - If either account doesn't exist
+     * @throws InvalidAccountException - If amount or accounts are invalid
+     * @throws CurrencyMismatchException - If currency differs from the source account currency
+     * @throws VelocityLimitExceededException - If a velocity rule is broken
+     * @throws FxRateUnavailableException - If no fresh rate exists for the currency pair
+     * @throws InsufficientBalanceException - If insufficient balance
+     */
+    @Override
+    @Transactional
+    public TransferDto transfer(Long fromId, Long toId, double amount, String currency) {
+        AccountOperationEvent.begin("TRANSFER", fromId);
+        logger.info("Processing transfer of {} from account ID: {} to account ID: {}", amount, fromId, toId);
+        
+        if (amount <= 0) {
+            logger.error("Invalid transfer amount: {}", amount);
+            throw new InvalidAccountException("Transfer amount must be positive");
+        }
+        
+        if (fromId.equals(toId)) {
+            logger.error("Transfer to the same account: {}", fromId);
+            throw new InvalidAccountException("Source and target accounts must differ");
+        }
+        
+        rejectUnknownAccount(fromId);
+        rejectUnknownAccount(toId);
+        
+        // Both rows are locked in ID order so opposite transfers cannot deadlock
+        Account from = null;
+        Account to = null;
+        for (Account account : accountRepository.findAllByIdForUpdate(List.of(fromId, toId))) {
+            if (account.getId().equals(fromId)) {
+                from = account;
+            } else {
+                to = account;
+            }
+        }
+        if (from == null) {
+            from = accountArchiver.rehydrate(fromId).orElse(null);
+        }
+        if (to == null) {
+            to = accountArchiver.rehydrate(toId).orElse(null);
+        }
+        if (from == null || to == null) {
+            Long missingId = from == null ? fromId : toId;
+            logger.error("Account not found for transfer with ID: {}", missingId);
+            throw new AccountNotFoundException("Account not found with ID: " + missingId);
+        }
+        requireCurrency(from, currency);
+        velocityChecker.check(fromId, fxRateCache.toBaseCurrency(amount, from.getCurrency()));
+        
+        if (from.getAvailableBalance() < amount) {
+            logger.warn("Insufficient balance. Current: {}, Held: {}, Requested: {}",
+                    from.getBalance(), from.getHeldBalance(), amount);
+            throw new InsufficientBalanceException(
+                    "Insufficient balance. Available balance: " + from.getAvailableBalance() + 
+                    ", Transfer amount: " + amount
+            );
+        }
+        
+        FxConversion conversion = fxRateCache.convert(amount, from.getCurrency(), to.getCurrency());
+        
+        from.setBalance(from.getBalance() - amount);
+        to.setBalance(to.getBalance() + conversion.amount());
+        Account savedFrom = accountRepository.save(from);
+        Account savedTo = accountRepository.save(to);
+        accountEventRecorder.record(savedFrom, AccountEventType.TRANSFERRED_OUT, amount);
+        accountEventRecorder.record(savedTo, AccountEventType.TRANSFERRED_IN, conversion.amount());
+        
+        logger.info("Transfer successful. Debited {} {} from account {}, credited {} {} to account {}",
+                amount, from.getCurrency(), fromId, conversion.amount(), to.getCurrency(), toId);
+        return new TransferDto(AccountMapper.mapToAccountDto(savedFrom), AccountMapper.mapToAccountDto(savedTo),
+                amount, conversion.amount(), conversion.rate());
+    }
+
+    private void rejectUnknownAccount(Long id) {
+        if (!accountIdFilter.mightExist(id)) {
+            logger.error("Account not found with ID: {}", id);
+            throw new AccountNotFoundException("Account not found with ID: " + id);
+        }
+    }
+
+    private void requireCurrency(Account account, String currency) {
+        if (currency != null && !currency.equals(account.getCurrency())) {
+            logger.warn("Currency {} does not match account {} currency {}",
+                    currency, account.getId(), account.getCurrency());
+            throw new CurrencyMismatchException("Currency " + currency + " does not match account currency "
+                    + account.getCurrency());
+        }
+    }
+
+    private static boolean isKnownCurrency(String currency) {
+        try {
+            Currency.getInstance(currency);
+            return true;
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
 }
@@ -0,0 +1,144 @@
+package com.ringale.banking_app.service.impl;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.ringale.banking_app.dto.AccountDto;
+import com.ringale.banking_app.dto.AccountLookupDto;
+import com.ringale.banking_app.dto.TransferDto;
+import com.ringale.banking_app.service.AccountService;
+import com.ringale.banking_app.stream.BalanceChangedEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Coalesces concurrent reads of the same account into one database query.
+ * The first caller for an ID runs the query; callers arriving while it is in
+ * flight wait for and share its result or exception. Nothing is cached once
+ * the query completes. When a change to the account commits, the in-flight
+ * entry is dropped so later readers start a fresh query instead of joining
+ * one that may have read the old balance. Writes go straight to the delegate.
+ */
+@Service
+@Primary
+public class CoalescingAccountService implements AccountService {
+
+    private final ConcurrentHashMap<Long, CompletableFuture<AccountDto>> inFlight = new ConcurrentHashMap<>();
+    private final AccountService delegate;
+    private final Counter leaderReads;
+    private final Counter joinedReads;
+
+    @Autowired
+    public CoalescingAccountService(@Qualifier("accountServiceImpl") AccountService delegate,
+            MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.leaderReads = reads(meterRegistry, "leader");
+        this.joinedReads = reads(meterRegistry, "joined");
+    }
+
+    /**
+     * Retrieve account by ID, sharing an in-flight query for the same ID
+     * 
+     * @param id - Account ID
+     * @return Account DTO, shared between coalesced callers and not to be modified
+     */
+    @Override
+    public AccountDto getAccountById(Long id) {
+        if (id == null) {
+            return delegate.getAccountById(id);
+        }
+        CompletableFuture<AccountDto> flight = new CompletableFuture<>();
+        CompletableFuture<AccountDto> existing = inFlight.putIfAbsent(id, flight);
+        if (existing != null) {
+            joinedReads.increment();
+            return await(existing);
+        }
+
+        leaderReads.increment();
+        try {
+            AccountDto account = delegate.getAccountById(id);
+            flight.complete(account);
+            return account;
+        } catch (RuntimeException ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(id, flight);
+        }
+    }
+
+    /**
+     * Stop new readers from joining a query started before the change committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBalanceChanged(BalanceChangedEvent event) {
+        inFlight.remove(event.accountId());
+    }
+
+    @Override
+    public Optional<Long> getAccountVersion(Long id) {
+        return delegate.getAccountVersion(id);
+    }
+
+    @Override
+    public AccountDto createAccount(AccountDto accountDto) {
+        return delegate.createAccount(accountDto);
+    }
+
+    @Override
+    public AccountLookupDto lookupAccounts(List<Long> ids) {
+        return delegate.lookupAccounts(ids);
+    }
+
+    @Override
+    public AccountDto depositAmount(Long id, double amount) {
+        return delegate.depositAmount(id, amount);
+    }
+
+    @Override
+    public AccountDto depositAmount(Long id, double amount, String currency) {
+        return delegate.depositAmount(id, amount, currency);
+    }
+
+    @Override
+    public AccountDto withDrawAmount(Long id, double amount) {
+        return delegate.withDrawAmount(id, amount);
+    }
+
+    @Override
+    public AccountDto withDrawAmount(Long id, double amount, String currency) {
+        return delegate.withDrawAmount(id, amount, currency);
+    }
+
+    @Override
+    public TransferDto transfer(Long fromId, Long toId, double amount, String currency) {
+        return delegate.transfer(fromId, toId, amount, currency);
+    }
+
+    private static AccountDto await(CompletableFuture<AccountDto> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private static Counter reads(MeterRegistry meterRegistry, String role) {
+        return Counter.builder("banking.account.reads")
+                .tag("role", role)
+                .register(meterRegistry);
+    }
+}
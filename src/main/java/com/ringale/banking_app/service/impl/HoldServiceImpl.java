@@ -0,0 +1,269 @@
+package com.ringale.banking_app.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ringale.banking_app.archive.AccountArchiver;
+import com.ringale.banking_app.dto.HoldDto;
+import com.ringale.banking_app.entity.Account;
+import com.ringale.banking_app.entity.AccountEventType;
+import com.ringale.banking_app.entity.FundHold;
+import com.ringale.banking_app.entity.HoldStatus;
+import com.ringale.banking_app.exception.AccountNotFoundException;
+import com.ringale.banking_app.exception.HoldNotFoundException;
+import com.ringale.banking_app.exception.InsufficientBalanceException;
+import com.ringale.banking_app.exception.InvalidAccountException;
+import com.ringale.banking_app.exception.InvalidHoldStateException;
+import com.ringale.banking_app.hold.HoldExpiryScheduler;
+import com.ringale.banking_app.mapper.HoldMapper;
+import com.ringale.banking_app.outbox.AccountEventRecorder;
+import com.ringale.banking_app.repository.AccountRepository;
+import com.ringale.banking_app.repository.FundHoldRepository;
+import com.ringale.banking_app.service.HoldService;
+
+/**
+ * Service implementation for fund holds.
+ * Holds reserve part of the ledger balance; withdrawals and new holds can
+ * only use the available balance. Hold and account rows are locked for the
+ * duration of each operation so capture, release and expiry cannot race.
+ */
+@Service
+@Transactional
+public class HoldServiceImpl implements HoldService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(HoldServiceImpl.class);
+    private AccountRepository accountRepository;
+    private FundHoldRepository fundHoldRepository;
+    private AccountEventRecorder accountEventRecorder;
+    private HoldExpiryScheduler holdExpiryScheduler;
+    private AccountArchiver accountArchiver;
+    private long defaultTtlSeconds;
+    private long maxTtlSeconds;
+
+    @Autowired
+    public HoldServiceImpl(AccountRepository accountRepository, FundHoldRepository fundHoldRepository,
+            AccountEventRecorder accountEventRecorder, HoldExpiryScheduler holdExpiryScheduler,
+            AccountArchiver accountArchiver,
+            @Value("${banking.holds.default-ttl-seconds:604800}") long defaultTtlSeconds,
+            @Value("${banking.holds.max-ttl-seconds:2592000}") long maxTtlSeconds) {
+        this.accountRepository = accountRepository;
+        this.fundHoldRepository = fundHoldRepository;
+        this.accountEventRecorder = accountEventRecorder;
+        this.holdExpiryScheduler = holdExpiryScheduler;
+        this.accountArchiver = accountArchiver;
+        this.defaultTtlSeconds = defaultTtlSeconds;
+        this.maxTtlSeconds = maxTtlSeconds;
+    }
+
+    /**
+     * Reserve funds on an account
+     * 
+     * @param accountId - Account ID
+     * @param amount - Amount to reserve
+     * @param ttlSeconds - Seconds until the hold expires, or null for the default
+     * @return Created hold
+     * @throws AccountNotFoundException - If account doesn't exist
+     * @throws InvalidAccountException - If amount or time to live is invalid
+     * @throws InsufficientBalanceException - If the available balance is too low
+     */
+    @Override
+    @Transactional
+    public HoldDto placeHold(Long accountId, double amount, Long ttlSeconds) {
+        logger.info("Placing hold of {} on account ID: {}", amount, accountId);
+        
+        if (amount <= 0) {
+            logger.error("Invalid hold amount: {}", amount);
+            throw new InvalidAccountException("Hold amount must be positive");
+        }
+        long ttl = ttlSeconds != null ? ttlSeconds : defaultTtlSeconds;
+        if (ttl <= 0 || ttl > maxTtlSeconds) {
+            logger.error("Invalid hold time to live: {}", ttl);
+            throw new InvalidAccountException("Hold time to live must be between 1 and " + maxTtlSeconds + " seconds");
+        }
+        
+        Account account = findAccountForUpdate(accountId);
+        if (account.getAvailableBalance() < amount) {
+            logger.warn("Insufficient available balance for hold. Available: {}, Requested: {}",
+                    account.getAvailableBalance(), amount);
+            throw new InsufficientBalanceException(
+                    "Insufficient available balance. Available balance: " + account.getAvailableBalance() +
+                    ", Hold amount: " + amount
+            );
+        }
+        
+        account.setHeldBalance(account.getHeldBalance() + amount);
+        Account savedAccount = accountRepository.save(account);
+        
+        FundHold hold = new FundHold();
+        hold.setAccountId(accountId);
+        hold.setAmount(amount);
+        hold.setStatus(HoldStatus.ACTIVE);
+        hold.setExpiresAt(LocalDateTime.now().plusSeconds(ttl));
+        FundHold savedHold = fundHoldRepository.save(hold);
+        accountEventRecorder.record(savedAccount, AccountEventType.HOLD_PLACED, amount);
+        
+        // A rolled back hold is simply skipped when it comes due
+        holdExpiryScheduler.schedule(savedHold.getId(), savedHold.getExpiresAt());
+        
+        logger.info("Hold {} placed on account {}", savedHold.getId(), accountId);
+        return HoldMapper.mapToHoldDto(savedHold);
+    }
+
+    /**
+     * Retrieve a hold
+     * 
+     * @param accountId - Account ID
+     * @param holdId - Hold ID
+     * @return Hold DTO
+     * @throws HoldNotFoundException - If the hold doesn't exist on this account
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public HoldDto getHold(Long accountId, Long holdId) {
+        FundHold hold = fundHoldRepository.findById(holdId)
+                .filter(found -> found.getAccountId().equals(accountId))
+                .orElseThrow(() -> holdNotFound(accountId, holdId));
+        return HoldMapper.mapToHoldDto(hold);
+    }
+
+    /**
+     * Capture a hold, debiting the captured amount and releasing the rest
+     * 
+     * @param accountId - Account ID
+     * @param holdId - Hold ID
+     * @param amount - Amount to capture, or null to capture the full hold
+     * @return Captured hold
+     * @throws HoldNotFoundException - If the hold doesn't exist on this account
+     * @throws InvalidHoldStateException - If the hold is not active or has expired
+     * @throws InvalidAccountException - If amount is invalid
+     */
+    @Override
+    @Transactional
+    public HoldDto captureHold(Long accountId, Long holdId, Double amount) {
+        logger.info("Capturing hold {} on account ID: {}", holdId, accountId);
+        
+        FundHold hold = findActiveHoldForUpdate(accountId, holdId);
+        double captureAmount = amount != null ? amount : hold.getAmount();
+        if (captureAmount <= 0 || captureAmount > hold.getAmount()) {
+            logger.error("Invalid capture amount: {}", captureAmount);
+            throw new InvalidAccountException("Capture amount must be positive and at most " + hold.getAmount());
+        }
+        
+        Account account = findAccountForUpdate(accountId);
+        account.setHeldBalance(account.getHeldBalance() - hold.getAmount());
+        account.setBalance(account.getBalance() - captureAmount);
+        Account savedAccount = accountRepository.save(account);
+        
+        hold.setStatus(HoldStatus.CAPTURED);
+        hold.setCapturedAmount(captureAmount);
+        FundHold savedHold = fundHoldRepository.save(hold);
+        accountEventRecorder.record(savedAccount, AccountEventType.HOLD_CAPTURED, captureAmount);
+        
+        logger.info("Hold {} captured for {}. New balance for account {}: {}",
+                holdId, captureAmount, accountId, savedAccount.getBalance());
+        return HoldMapper.mapToHoldDto(savedHold);
+    }
+
+    /**
+     * Release a hold without debiting the account
+     * 
+     * @param accountId - Account ID
+     * @param holdId - Hold ID
+     * @return Released hold
+     * @throws HoldNotFoundException - If the hold doesn't exist on this account
+     * @throws InvalidHoldStateException - If the hold is not active or has expired
+     */
+    @Override
+    @Transactional
+    public HoldDto releaseHold(Long accountId, Long holdId) {
+        logger.info("Releasing hold {} on account ID: {}", holdId, accountId);
+        
+        FundHold hold = findActiveHoldForUpdate(accountId, holdId);
+        Account account = findAccountForUpdate(accountId);
+        account.setHeldBalance(account.getHeldBalance() - hold.getAmount());
+        Account savedAccount = accountRepository.save(account);
+        
+        hold.setStatus(HoldStatus.RELEASED);
+        FundHold savedHold = fundHoldRepository.save(hold);
+        accountEventRecorder.record(savedAccount, AccountEventType.HOLD_RELEASED, hold.getAmount());
+        
+        logger.info("Hold {} released on account {}", holdId, accountId);
+        return HoldMapper.mapToHoldDto(savedHold);
+    }
+
+    /**
+     * Expire a batch of holds in one transaction
+     * Holds that are no longer active or not yet due are skipped, so the call is idempotent.
+     * 
+     * @param holdIds - IDs of holds that are due
+     * @return Number of holds expired
+     */
+    @Override
+    @Transactional
+    public int expireHolds(List<Long> holdIds) {
+        if (holdIds.isEmpty()) {
+            return 0;
+        }
+        List<FundHold> holds = fundHoldRepository.findExpiredForUpdate(holdIds, HoldStatus.ACTIVE, LocalDateTime.now());
+        if (holds.isEmpty()) {
+            return 0;
+        }
+        
+        Map<Long, Double> releasedByAccount = new HashMap<>();
+        for (FundHold hold : holds) {
+            hold.setStatus(HoldStatus.EXPIRED);
+            releasedByAccount.merge(hold.getAccountId(), hold.getAmount(), Double::sum);
+        }
+        fundHoldRepository.saveAll(holds);
+        
+        List<Account> accounts = accountRepository.findAllByIdForUpdate(new TreeSet<>(releasedByAccount.keySet()));
+        for (Account account : accounts) {
+            double released = releasedByAccount.get(account.getId());
+            account.setHeldBalance(Math.max(0, account.getHeldBalance() - released));
+            accountEventRecorder.record(account, AccountEventType.HOLD_EXPIRED, released);
+        }
+        accountRepository.saveAll(accounts);
+        
+        logger.info("Expired {} holds across {} accounts", holds.size(), accounts.size());
+        return holds.size();
+    }
+
+    private Account findAccountForUpdate(Long accountId) {
+        return accountRepository.findByIdForUpdate(accountId)
+                .or(() -> accountArchiver.rehydrate(accountId))
+                .orElseThrow(() -> {
+                    logger.error("Account not found for hold with ID: {}", accountId);
+                    return new AccountNotFoundException("Account not found with ID: " + accountId);
+                });
+    }
+
+    private FundHold findActiveHoldForUpdate(Long accountId, Long holdId) {
+        FundHold hold = fundHoldRepository.findByIdForUpdate(holdId)
+                .filter(found -> found.getAccountId().equals(accountId))
+                .orElseThrow(() -> holdNotFound(accountId, holdId));
+        if (hold.getStatus() != HoldStatus.ACTIVE) {
+            logger.warn("Hold {} is {}", holdId, hold.getStatus());
+            throw new InvalidHoldStateException("Hold " + holdId + " is " + hold.getStatus());
+        }
+        if (!hold.getExpiresAt().isAfter(LocalDateTime.now())) {
+            logger.warn("Hold {} has expired", holdId);
+            throw new InvalidHoldStateException("Hold " + holdId + " has expired");
+        }
+        return hold;
+    }
+
+    private HoldNotFoundException holdNotFound(Long accountId, Long holdId) {
+        logger.error("Hold {} not found on account {}", holdId, accountId);
+        return new HoldNotFoundException("Hold not found with ID: " + holdId + " on account ID: " + accountId);
+    }
+}
@@ -0,0 +1,129 @@
+package com.ringale.banking_app.stream;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ringale.banking_app.entity.OutboxEvent;
+import com.ringale.banking_app.repository.OutboxEventRepository;
+
+/**
+ * Tails the outbox table on every node and feeds committed balance changes
+ * to the local {@link BalanceStreamHub}, so SSE clients see changes made on
+ * any node. Independent of the relay: every node reads every event, and
+ * events already delivered locally are skipped by the subscribers.
+ * Outbox ids are allocated at insert but become visible at commit, so a
+ * missing id below the highest one read is remembered as a gap and looked
+ * up again until it appears or times out (a rolled-back insert never does).
+ * While nobody on this node is subscribed the outbox is not read at all; the
+ * first subscriber resumes the feed from the current highest id, before its
+ * initial balance is read, so no change after that balance is missed.
+ */
+@Component
+public class BalanceChangeFeed {
+
+    private static final Logger logger = LoggerFactory.getLogger(BalanceChangeFeed.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final BalanceStreamHub balanceStreamHub;
+    private final int batchSize;
+    private final long gapTimeoutNanos;
+    private final int maxGaps;
+    private final Map<Long, Long> gapDeadlines = new HashMap<>();
+    private volatile long highWater = -1;
+
+    @Autowired
+    public BalanceChangeFeed(OutboxEventRepository outboxEventRepository, BalanceStreamHub balanceStreamHub,
+            @Value("${banking.stream.feed.batch-size:500}") int batchSize,
+            @Value("${banking.stream.feed.gap-timeout-ms:10000}") long gapTimeoutMs,
+            @Value("${banking.stream.feed.max-gaps:10000}") int maxGaps) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.balanceStreamHub = balanceStreamHub;
+        this.batchSize = batchSize;
+        this.gapTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(gapTimeoutMs);
+        this.maxGaps = maxGaps;
+        balanceStreamHub.setSubscribeListener(this::resume);
+    }
+
+    /**
+     * Read outbox events committed since the last poll and dispatch them
+     */
+    @Scheduled(fixedDelayString = "${banking.stream.feed.interval-ms:250}")
+    public synchronized void poll() {
+        if (!balanceStreamHub.hasSubscribers()) {
+            highWater = -1;
+            gapDeadlines.clear();
+            return;
+        }
+        if (highWater < 0) {
+            highWater = outboxEventRepository.findMaxId();
+            return;
+        }
+        long now = System.nanoTime();
+
+        if (!gapDeadlines.isEmpty()) {
+            List<Long> gaps = new ArrayList<>(gapDeadlines.keySet());
+            for (int from = 0; from < gaps.size(); from += batchSize) {
+                List<Long> chunk = gaps.subList(from, Math.min(from + batchSize, gaps.size()));
+                for (OutboxEvent event : outboxEventRepository.findAllById(chunk)) {
+                    gapDeadlines.remove(event.getId());
+                    dispatch(event);
+                }
+            }
+            gapDeadlines.values().removeIf(deadline -> deadline - now < 0);
+        }
+
+        List<OutboxEvent> events;
+        do {
+            events = outboxEventRepository.findByIdGreaterThanOrderByIdAsc(highWater, Limit.of(batchSize));
+            for (OutboxEvent event : events) {
+                advanceTo(event.getId(), now);
+                dispatch(event);
+            }
+        } while (events.size() == batchSize);
+    }
+
+    /**
+     * Start reading from the current highest outbox id if the feed is idle
+     */
+    void resume() {
+        if (highWater < 0) {
+            synchronized (this) {
+                if (highWater < 0) {
+                    highWater = outboxEventRepository.findMaxId();
+                }
+            }
+        }
+    }
+
+    int getGapCount() {
+        return gapDeadlines.size();
+    }
+
+    private void advanceTo(long id, long now) {
+        for (long missing = highWater + 1; missing < id; missing++) {
+            if (gapDeadlines.size() >= maxGaps) {
+                logger.warn("Balance feed gap limit of {} reached, changes below outbox id {} may not be streamed",
+                        maxGaps, id);
+                break;
+            }
+            gapDeadlines.put(missing, now + gapTimeoutNanos);
+        }
+        highWater = id;
+    }
+
+    private void dispatch(OutboxEvent event) {
+        balanceStreamHub.onBalanceChanged(new BalanceChangedEvent(event.getId(), event.getAccountId(),
+                event.getBalance()));
+    }
+}
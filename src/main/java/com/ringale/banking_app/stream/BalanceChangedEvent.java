@@ -0,0 +1,9 @@
+package com.ringale.banking_app.stream;
+
+/**
+ * Application event published whenever an account balance changes.
+ * Carries the id of the outbox event recording the change, which orders
+ * changes to one account and lets subscribers skip duplicates.
+ */
+public record BalanceChangedEvent(Long eventId, Long accountId, double balance) {
+}
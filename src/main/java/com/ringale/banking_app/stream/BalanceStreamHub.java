@@ -0,0 +1,241 @@
+package com.ringale.banking_app.stream;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.ringale.banking_app.dto.BalanceUpdateDto;
+import com.ringale.banking_app.exception.SubscriberLimitExceededException;
+
+/**
+ * Fans balance changes out to SSE subscribers.
+ * Each subscriber has a bounded buffer; a subscriber whose buffer overflows is
+ * disconnected instead of slowing down everyone else. Updates are dispatched
+ * only after the changing transaction has committed: changes made on this
+ * node arrive straight from the transaction, changes made on other nodes
+ * arrive through {@link BalanceChangeFeed}.
+ * A subscriber whose send has been blocked on the client for longer than the
+ * send timeout is dropped. Its dispatch thread stays blocked until the
+ * connector's write timeout, so the pool gets one extra thread per stalled
+ * send, up to a cap, and other subscribers keep being served.
+ * The dispatch queue is bounded as well: when it is full, the subscribers of
+ * the account whose update could not be queued are dropped as lagging, and
+ * their clients reconnect to read the current balance.
+ */
+@Component
+public class BalanceStreamHub implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(BalanceStreamHub.class);
+
+    private final ConcurrentHashMap<Long, Set<BalanceSubscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Set<BalanceSubscriber> stalledSenders = ConcurrentHashMap.newKeySet();
+    private volatile Runnable subscribeListener = () -> { };
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicInteger droppedCount = new AtomicInteger();
+    private final ThreadPoolExecutor dispatchExecutor;
+    private final int maxSubscribers;
+    private final int bufferSize;
+    private final long timeoutMs;
+    private final int dispatchThreads;
+    private final long sendTimeoutNanos;
+    private final int maxStalledSenders;
+
+    public BalanceStreamHub(
+            @Value("${banking.stream.max-subscribers:100000}") int maxSubscribers,
+            @Value("${banking.stream.buffer-size:16}") int bufferSize,
+            @Value("${banking.stream.timeout-ms:1800000}") long timeoutMs,
+            @Value("${banking.stream.dispatch-threads:8}") int dispatchThreads,
+            @Value("${banking.stream.dispatch-queue-size:10000}") int dispatchQueueSize,
+            @Value("${banking.stream.send-timeout-ms:5000}") long sendTimeoutMs,
+            @Value("${banking.stream.max-stalled-senders:64}") int maxStalledSenders) {
+        this.maxSubscribers = maxSubscribers;
+        this.bufferSize = bufferSize;
+        this.timeoutMs = timeoutMs;
+        this.dispatchThreads = dispatchThreads;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        this.maxStalledSenders = maxStalledSenders;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.dispatchExecutor = new ThreadPoolExecutor(dispatchThreads, dispatchThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(dispatchQueueSize), runnable -> {
+                    Thread thread = new Thread(runnable, "balance-stream-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Open a stream for an account. The subscriber is registered before the
+     * current balance is read, so a change committed in between is delivered
+     * after it rather than lost.
+     * 
+     * @param accountId - Account ID
+     * @param currentBalance - Reads the balance sent as the first event; exceptions propagate
+     * @return Emitter bound to the HTTP response
+     * @throws SubscriberLimitExceededException - If the node is at capacity
+     */
+    public SseEmitter subscribe(Long accountId, DoubleSupplier currentBalance) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new SubscriberLimitExceededException(
+                    "Balance stream capacity of " + maxSubscribers + " subscribers reached");
+        }
+
+        SseEmitter emitter = createEmitter(timeoutMs);
+        BalanceSubscriber subscriber = new BalanceSubscriber(accountId, emitter, bufferSize, dispatchExecutor);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(ex -> remove(subscriber));
+
+        subscribers.compute(accountId, (id, accountSubscribers) -> {
+            Set<BalanceSubscriber> set = accountSubscribers != null ? accountSubscribers : ConcurrentHashMap.newKeySet();
+            set.add(subscriber);
+            return set;
+        });
+        double balance;
+        try {
+            subscribeListener.run();
+            balance = currentBalance.getAsDouble();
+        } catch (RuntimeException ex) {
+            remove(subscriber);
+            throw ex;
+        }
+        subscriber.start(new BalanceUpdateDto(accountId, balance));
+        logger.debug("Subscriber added for account {}", accountId);
+        return emitter;
+    }
+
+    /**
+     * Run a callback after each subscriber is registered and before its
+     * current balance is read
+     */
+    void setSubscribeListener(Runnable listener) {
+        this.subscribeListener = listener;
+    }
+
+    /**
+     * Whether any client is streaming a balance on this node
+     */
+    public boolean hasSubscribers() {
+        return !subscribers.isEmpty();
+    }
+
+    /**
+     * Push a committed balance change to the account's subscribers
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBalanceChanged(BalanceChangedEvent event) {
+        Set<BalanceSubscriber> accountSubscribers = subscribers.get(event.accountId());
+        if (accountSubscribers == null) {
+            return;
+        }
+        BalanceUpdateDto update = new BalanceUpdateDto(event.accountId(), event.balance());
+        try {
+            dispatchExecutor.execute(() -> {
+                for (BalanceSubscriber subscriber : accountSubscribers) {
+                    if (!subscriber.offer(update, event.eventId())) {
+                        drop(subscriber);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            // The update is lost for these subscribers, so they must not keep streaming a stale balance
+            accountSubscribers.forEach(this::drop);
+        }
+    }
+
+    /**
+     * Keep idle connections alive and detect dead or stalled clients
+     */
+    @Scheduled(fixedDelayString = "${banking.stream.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        subscribers.values().forEach(accountSubscribers -> {
+            for (BalanceSubscriber subscriber : accountSubscribers) {
+                if (!subscriber.offerHeartbeat()) {
+                    drop(subscriber);
+                }
+            }
+        });
+    }
+
+    /**
+     * Drop subscribers whose send is blocked on the client and size the
+     * dispatch pool for the threads still stuck in such sends
+     */
+    @Scheduled(fixedDelayString = "${banking.stream.stall-check-interval-ms:1000}")
+    public void dropStalledSubscribers() {
+        long now = System.nanoTime();
+        subscribers.values().forEach(accountSubscribers -> {
+            for (BalanceSubscriber subscriber : accountSubscribers) {
+                if (subscriber.isSendStalled(now, sendTimeoutNanos)) {
+                    stalledSenders.add(subscriber);
+                    drop(subscriber);
+                }
+            }
+        });
+        stalledSenders.removeIf(subscriber -> !subscriber.isSending());
+        resizeDispatchPool(dispatchThreads + Math.min(stalledSenders.size(), maxStalledSenders));
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    public int getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    @Override
+    public void destroy() {
+        subscribers.values().forEach(accountSubscribers -> accountSubscribers.forEach(BalanceSubscriber::close));
+        dispatchExecutor.shutdownNow();
+    }
+
+    SseEmitter createEmitter(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+
+    private synchronized void resizeDispatchPool(int threads) {
+        if (threads > dispatchExecutor.getMaximumPoolSize()) {
+            dispatchExecutor.setMaximumPoolSize(threads);
+            dispatchExecutor.setCorePoolSize(threads);
+        } else if (threads < dispatchExecutor.getCorePoolSize()) {
+            dispatchExecutor.setCorePoolSize(threads);
+            dispatchExecutor.setMaximumPoolSize(threads);
+        }
+    }
+
+    int getDispatchThreads() {
+        return dispatchExecutor.getCorePoolSize();
+    }
+
+    private void drop(BalanceSubscriber subscriber) {
+        logger.warn("Dropping slow balance stream subscriber for account {}", subscriber.getAccountId());
+        droppedCount.incrementAndGet();
+        subscriber.close();
+        remove(subscriber);
+    }
+
+    private void remove(BalanceSubscriber subscriber) {
+        subscriber.markClosed();
+        subscribers.computeIfPresent(subscriber.getAccountId(), (id, accountSubscribers) -> {
+            if (accountSubscribers.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return accountSubscribers.isEmpty() ? null : accountSubscribers;
+        });
+    }
+}
@@ -0,0 +1,195 @@
+package com.ringale.banking_app.stream;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.ringale.banking_app.dto.BalanceUpdateDto;
+
+/**
+ * A single SSE connection with its own bounded buffer.
+ * At most one drain task per subscriber is scheduled at a time, so sends on
+ * one emitter never interleave and idle subscribers hold no thread. The
+ * emitter is completed only by the thread holding the drain slot, because
+ * completing it waits for a send in progress; closing a stalled subscriber
+ * therefore never blocks the caller. Updates are de-duplicated on the
+ * outbox event id, since an update can arrive both locally and from the feed.
+ */
+class BalanceSubscriber {
+
+    private static final BalanceUpdateDto HEARTBEAT = new BalanceUpdateDto();
+
+    private final Long accountId;
+    private final SseEmitter emitter;
+    private final ArrayBlockingQueue<BalanceUpdateDto> buffer;
+    private final Executor executor;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicBoolean completed = new AtomicBoolean();
+    private final AtomicLong lastEventId = new AtomicLong();
+    private volatile boolean started;
+    private volatile BalanceUpdateDto initial;
+    private volatile long sendStartedNanos;
+
+    BalanceSubscriber(Long accountId, SseEmitter emitter, int bufferSize, Executor executor) {
+        this.accountId = accountId;
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.executor = executor;
+    }
+
+    Long getAccountId() {
+        return accountId;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    /**
+     * Begin delivery with the current balance; updates buffered since the
+     * subscriber was registered follow it
+     */
+    void start(BalanceUpdateDto current) {
+        initial = current;
+        started = true;
+        scheduleDrain();
+    }
+
+    /**
+     * Queue an update for delivery
+     * 
+     * @param eventId - Outbox event id, updates at or below the last one offered are skipped
+     * @return false if the buffer is full and the subscriber should be dropped
+     */
+    boolean offer(BalanceUpdateDto update, long eventId) {
+        long last;
+        do {
+            last = lastEventId.get();
+            if (eventId <= last) {
+                return true;
+            }
+        } while (!lastEventId.compareAndSet(last, eventId));
+        return offer(update);
+    }
+
+    /**
+     * Queue an update for delivery
+     * 
+     * @return false if the buffer is full and the subscriber should be dropped
+     */
+    boolean offer(BalanceUpdateDto update) {
+        if (closed.get()) {
+            return true;
+        }
+        if (!buffer.offer(update)) {
+            return false;
+        }
+        if (started) {
+            scheduleDrain();
+        }
+        return true;
+    }
+
+    boolean offerHeartbeat() {
+        return offer(HEARTBEAT);
+    }
+
+    /**
+     * Whether a send has been blocked on the client for longer than the limit
+     */
+    boolean isSendStalled(long nowNanos, long limitNanos) {
+        long started = sendStartedNanos;
+        return started != 0 && nowNanos - started > limitNanos;
+    }
+
+    boolean isSending() {
+        return sendStartedNanos != 0;
+    }
+
+    /**
+     * Close the connection, e.g. because the client is too slow. Does not
+     * wait for a send in progress; its drain task completes the emitter.
+     */
+    void close() {
+        if (closed.compareAndSet(false, true)) {
+            buffer.clear();
+            if (scheduled.compareAndSet(false, true)) {
+                complete(null);
+            }
+        }
+    }
+
+    void markClosed() {
+        closed.set(true);
+        buffer.clear();
+    }
+
+    private void complete(Throwable error) {
+        if (completed.compareAndSet(false, true)) {
+            if (error == null) {
+                emitter.complete();
+            } else {
+                emitter.completeWithError(error);
+            }
+        }
+    }
+
+    private void scheduleDrain() {
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException ex) {
+                markClosed();
+                complete(null);
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            BalanceUpdateDto first = initial;
+            if (first != null && !closed.get()) {
+                initial = null;
+                send(first);
+            }
+            BalanceUpdateDto update;
+            while (!closed.get() && (update = buffer.poll()) != null) {
+                send(update);
+            }
+        } catch (IOException | IllegalStateException ex) {
+            markClosed();
+            complete(ex);
+        } finally {
+            sendStartedNanos = 0;
+            scheduled.set(false);
+        }
+        if (closed.get()) {
+            if (scheduled.compareAndSet(false, true)) {
+                complete(null);
+            }
+        } else if (!buffer.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+
+    private void send(BalanceUpdateDto update) throws IOException {
+        sendStartedNanos = System.nanoTime();
+        if (update == HEARTBEAT) {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+        } else {
+            emitter.send(SseEmitter.event().name("balance").data(update, MediaType.APPLICATION_JSON));
+        }
+        sendStartedNanos = 0;
+    }
+}
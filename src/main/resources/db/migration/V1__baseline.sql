@@ -0,0 +1,11 @@
+-- Baseline schema, matching what ddl-auto=update produced before migrations.
+-- Existing databases are baselined at this version instead of running it.
+
+create table accounts (
+    id bigint not null auto_increment,
+    account_owner varchar(255) not null,
+    balance double not null,
+    created_at datetime(6) not null,
+    updated_at datetime(6),
+    primary key (id)
+);
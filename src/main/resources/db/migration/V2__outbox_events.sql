@@ -0,0 +1,14 @@
+-- Transactional outbox of account changes, published by the relay in id order.
+
+create table outbox_events (
+    id bigint not null auto_increment,
+    account_id bigint not null,
+    event_type varchar(32) not null,
+    amount double not null,
+    balance double not null,
+    created_at datetime(6) not null,
+    published_at datetime(6),
+    primary key (id)
+);
+
+create index idx_outbox_events_unpublished on outbox_events (published_at, id);
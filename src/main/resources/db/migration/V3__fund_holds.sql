@@ -0,0 +1,18 @@
+-- Fund holds and the balance they reserve on each account.
+
+alter table accounts add column held_balance double default 0 not null;
+
+create table fund_holds (
+    id bigint not null auto_increment,
+    account_id bigint not null,
+    amount double not null,
+    captured_amount double,
+    status varchar(16) not null,
+    expires_at datetime(6) not null,
+    created_at datetime(6) not null,
+    updated_at datetime(6),
+    primary key (id)
+);
+
+create index idx_fund_holds_account on fund_holds (account_id);
+create index idx_fund_holds_status_expiry on fund_holds (status, expires_at);
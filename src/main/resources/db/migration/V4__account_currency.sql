@@ -0,0 +1,5 @@
+-- Account currencies. Existing accounts were all held in US dollars.
+
+alter table accounts add column currency varchar(3) default 'USD' not null;
+
+alter table outbox_events add column currency varchar(3);
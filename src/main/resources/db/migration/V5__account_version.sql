@@ -0,0 +1,3 @@
+-- Optimistic locking version, also used for account ETags.
+
+alter table accounts add column version bigint default 0 not null;
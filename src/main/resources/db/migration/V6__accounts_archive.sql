@@ -0,0 +1,15 @@
+-- Cold storage for dormant accounts. Rows keep their original id so they can
+-- be moved back into accounts unchanged.
+
+create table accounts_archive (
+    id bigint not null,
+    account_owner varchar(255) not null,
+    currency varchar(3) not null,
+    balance double not null,
+    held_balance double not null,
+    version bigint not null,
+    created_at datetime(6) not null,
+    updated_at datetime(6),
+    archived_at datetime(6) not null,
+    primary key (id)
+);
@@ -0,0 +1,202 @@
+package com.ringale.banking_app.archive;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import com.ringale.banking_app.entity.Account;
+import com.ringale.banking_app.entity.ArchivedAccount;
+import com.ringale.banking_app.repository.AccountRepository;
+import com.ringale.banking_app.repository.ArchivedAccountRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AccountArchiver and AccountArchiveJob.
+ */
+@ExtendWith(MockitoExtension.class)
+public class AccountArchiverTest {
+    
+    @Mock
+    private AccountRepository accountRepository;
+    
+    @Mock
+    private ArchivedAccountRepository archivedAccountRepository;
+    
+    private SimpleMeterRegistry meterRegistry;
+    private AccountArchiver archiver;
+    private LocalDateTime cutoff;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        archiver = new AccountArchiver(accountRepository, archivedAccountRepository, meterRegistry);
+        cutoff = LocalDateTime.now().minusDays(30);
+    }
+    
+    private Account account(long id, LocalDateTime updatedAt, double heldBalance) {
+        Account account = new Account();
+        account.setId(id);
+        account.setAccountOwner("Owner " + id);
+        account.setUpdatedAt(updatedAt);
+        account.setHeldBalance(heldBalance);
+        return account;
+    }
+    
+    // ========== ARCHIVE TESTS ==========
+    
+    @Test
+    void testArchiveMovesOnlyAccountsStillDormant() {
+        // Given
+        Account dormant = account(1L, cutoff.minusDays(1), 0);
+        Account updatedSince = account(2L, cutoff.plusDays(1), 0);
+        Account withHold = account(3L, cutoff.minusDays(1), 50.0);
+        when(accountRepository.findAllByIdForUpdate(List.of(1L, 2L, 3L)))
+                .thenReturn(List.of(dormant, updatedSince, withHold));
+        
+        // When
+        int archived = archiver.archive(List.of(1L, 2L, 3L), cutoff);
+        
+        // Then
+        assertEquals(1, archived);
+        verify(archivedAccountRepository, times(1)).copyFromAccounts(eq(List.of(1L)), any(LocalDateTime.class));
+        verify(accountRepository, times(1)).deleteAllByIdInBatch(List.of(1L));
+    }
+    
+    @Test
+    void testArchiveWithNothingDormant() {
+        // Given
+        when(accountRepository.findAllByIdForUpdate(List.of(2L))).thenReturn(List.of(account(2L, cutoff.plusDays(1), 0)));
+        
+        // When
+        int archived = archiver.archive(List.of(2L), cutoff);
+        
+        // Then
+        assertEquals(0, archived);
+        verifyNoInteractions(archivedAccountRepository);
+        verify(accountRepository, never()).deleteAllByIdInBatch(any());
+    }
+    
+    @Test
+    void testArchiveAdjustsTableSizeGauges() {
+        // Given
+        when(accountRepository.count()).thenReturn(10L);
+        when(archivedAccountRepository.count()).thenReturn(0L);
+        archiver.refreshCounts();
+        when(accountRepository.findAllByIdForUpdate(List.of(1L))).thenReturn(List.of(account(1L, cutoff.minusDays(1), 0)));
+        
+        // When
+        archiver.archive(List.of(1L), cutoff);
+        
+        // Then
+        assertEquals(9.0, meterRegistry.get("banking.accounts.hot").gauge().value());
+        assertEquals(1.0, meterRegistry.get("banking.accounts.archived").gauge().value());
+    }
+    
+    // ========== REHYDRATE TESTS ==========
+    
+    @Test
+    void testRehydrateRestoresArchivedAccount() {
+        // Given
+        ArchivedAccount archived = new ArchivedAccount();
+        archived.setId(1L);
+        Account restored = account(1L, LocalDateTime.now(), 0);
+        when(archivedAccountRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(archived));
+        when(accountRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(restored));
+        
+        // When
+        Optional<Account> result = archiver.rehydrate(1L);
+        
+        // Then
+        assertEquals(Optional.of(restored), result);
+        verify(archivedAccountRepository, times(1)).restoreToAccounts(eq(1L), any(LocalDateTime.class));
+        verify(archivedAccountRepository, times(1)).delete(archived);
+        assertEquals(1, meterRegistry.get("banking.accounts.rehydration").timer().count());
+    }
+    
+    @Test
+    void testRehydrateFindsAccountRestoredConcurrently() {
+        // Given
+        Account restored = account(1L, LocalDateTime.now(), 0);
+        when(archivedAccountRepository.findByIdForUpdate(1L)).thenReturn(Optional.empty());
+        when(accountRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(restored));
+        
+        // When
+        Optional<Account> result = archiver.rehydrateInNewTransaction(1L);
+        
+        // Then
+        assertEquals(Optional.of(restored), result);
+        verify(archivedAccountRepository, never()).restoreToAccounts(anyLong(), any());
+        assertEquals(0, meterRegistry.get("banking.accounts.rehydration").timer().count());
+    }
+    
+    @Test
+    void testRehydrateUnknownAccount() {
+        // Given
+        when(archivedAccountRepository.findByIdForUpdate(999L)).thenReturn(Optional.empty());
+        when(accountRepository.findByIdForUpdate(999L)).thenReturn(Optional.empty());
+        
+        // When & Then
+        assertTrue(archiver.rehydrate(999L).isEmpty());
+    }
+    
+    // ========== ARCHIVE JOB TESTS ==========
+    
+    @Test
+    void testJobWalksIdsInBatches() {
+        // Given
+        when(accountRepository.findDormantIdsAfter(eq(0L), any(LocalDateTime.class), eq(Limit.of(2))))
+                .thenReturn(List.of(1L, 2L));
+        when(accountRepository.findDormantIdsAfter(eq(2L), any(LocalDateTime.class), eq(Limit.of(2))))
+                .thenReturn(List.of(5L));
+        when(accountRepository.findAllByIdForUpdate(any())).thenReturn(List.of());
+        AccountArchiveJob job = new AccountArchiveJob(archiver, true, Duration.ofDays(30), 2, 0, 10);
+        
+        // When
+        job.archiveDormantAccounts();
+        
+        // Then
+        verify(accountRepository, times(1)).findAllByIdForUpdate(List.of(1L, 2L));
+        verify(accountRepository, times(1)).findAllByIdForUpdate(List.of(5L));
+        verify(accountRepository, times(1)).count();
+    }
+    
+    @Test
+    void testJobStopsAfterMaxBatches() {
+        // Given
+        when(accountRepository.findDormantIdsAfter(anyLong(), any(LocalDateTime.class), eq(Limit.of(1))))
+                .thenAnswer(invocation -> List.of((long) invocation.getArgument(0) + 1));
+        when(accountRepository.findAllByIdForUpdate(any())).thenReturn(List.of());
+        AccountArchiveJob job = new AccountArchiveJob(archiver, true, Duration.ofDays(30), 1, 0, 3);
+        
+        // When
+        job.archiveDormantAccounts();
+        
+        // Then
+        verify(accountRepository, times(3)).findAllByIdForUpdate(any());
+    }
+    
+    @Test
+    void testDisabledJobDoesNothing() {
+        // Given
+        AccountArchiveJob job = new AccountArchiveJob(archiver, false, Duration.ofDays(30), 2, 0, 10);
+        
+        // When
+        job.archiveDormantAccounts();
+        
+        // Then
+        verifyNoInteractions(accountRepository, archivedAccountRepository);
+    }
+}
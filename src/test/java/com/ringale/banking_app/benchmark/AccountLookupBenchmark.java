@@ -0,0 +1,95 @@
+package com.ringale.banking_app.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.ringale.banking_app.BankingAppApplication;
+import com.ringale.banking_app.dto.AccountDto;
+import com.ringale.banking_app.dto.AccountLookupDto;
+import com.ringale.banking_app.service.AccountService;
+
+/**
+ * Compares one multi-get lookup against N sequential getAccountById calls.
+ * Runs against the embedded H2 database of the test profile, so it measures
+ * per-call transaction and query overhead only; with a networked MySQL each
+ * sequential call additionally pays a round trip.
+ * Run the main method on the test classpath after mvn test-compile.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccountLookupBenchmark {
+
+    private static final int ACCOUNTS = 10_000;
+
+    @Param({"10", "100", "500"})
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private AccountService accountService;
+    private List<Long> ids;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BankingAppApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run("--logging.level.root=WARN");
+        accountService = context.getBean(AccountService.class);
+        List<Long> created = new ArrayList<>(ACCOUNTS);
+        for (int i = 0; i < ACCOUNTS; i++) {
+            created.add(accountService.createAccount(new AccountDto(null, "Owner " + i, 100.0)).getId());
+        }
+        ids = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            ids.add(created.get((i * 7919) % ACCOUNTS));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public AccountLookupDto multiGet() {
+        return accountService.lookupAccounts(ids);
+    }
+
+    @Benchmark
+    public void sequentialGets(Blackhole blackhole) {
+        for (Long id : ids) {
+            blackhole.consume(accountService.getAccountById(id));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AccountLookupBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
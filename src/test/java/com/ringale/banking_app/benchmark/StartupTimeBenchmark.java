@@ -0,0 +1,101 @@
+package com.ringale.banking_app.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Measures time from process launch to the first successful request
+ * (an account creation answered with 201), over several cold starts.
+ * By default launches the application from the test classpath against the
+ * embedded H2 database of the test profile. To measure a packaged build, pass
+ * the launch command with a {port} placeholder, e.g. after mvn -Pcds package:
+ * -Dstartup.command="java -XX:SharedArchiveFile=target/extracted/application.jsa
+ * -Dspring.aot.enabled=true -jar target/extracted/banking-app-0.0.1-SNAPSHOT.jar --server.port={port}"
+ * Run the main method on the test classpath after mvn test-compile; the
+ * optional argument is the number of runs.
+ */
+public class StartupTimeBenchmark {
+
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+    private static final String CREATE_ACCOUNT = "{\"accountOwner\": \"Startup Probe\", \"balance\": 0}";
+
+    public static void main(String[] args) throws Exception {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+
+        List<Long> millis = new ArrayList<>();
+        for (int run = 1; run <= runs; run++) {
+            long elapsed = measure(client, freePort());
+            millis.add(elapsed);
+            System.out.printf("Run %d: first successful request after %d ms%n", run, elapsed);
+        }
+        Collections.sort(millis);
+        System.out.printf("Time to first successful request over %d runs: min=%d ms, median=%d ms, max=%d ms%n",
+                runs, millis.get(0), millis.get(millis.size() / 2), millis.get(millis.size() - 1));
+    }
+
+    private static long measure(HttpClient client, int port) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/accounts"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(CREATE_ACCOUNT))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command(port))
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            while (System.nanoTime() - start < TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Application exited with code " + process.exitValue());
+                }
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() == 201) {
+                        return (System.nanoTime() - start) / 1_000_000;
+                    }
+                } catch (ConnectException ex) {
+                    // not listening yet
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException("No successful request within " + TIMEOUT);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static List<String> command(int port) {
+        String command = System.getProperty("startup.command");
+        if (command != null) {
+            return Arrays.asList(command.replace("{port}", String.valueOf(port)).trim().split("\\s+"));
+        }
+        return List.of(
+                System.getProperty("java.home") + File.separator + "bin" + File.separator + "java",
+                "-cp", System.getProperty("java.class.path"),
+                "com.ringale.banking_app.BankingAppApplication",
+                "--spring.profiles.active=test",
+                "--server.port=" + port,
+                "--logging.level.root=WARN");
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
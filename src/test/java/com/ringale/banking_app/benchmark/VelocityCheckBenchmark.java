@@ -0,0 +1,74 @@
+package com.ringale.banking_app.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.ringale.banking_app.exception.VelocityLimitExceededException;
+import com.ringale.banking_app.risk.VelocityChecker;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Measures the per-withdrawal cost of the velocity check with 8 threads,
+ * both hammering a single hot account and spread over many accounts.
+ * Limits are set high enough that checks pass and counters keep updating.
+ * Run the main method on the test classpath after mvn test-compile.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class VelocityCheckBenchmark {
+
+    private static final int ACCOUNTS = 50_000;
+
+    private VelocityChecker checker;
+
+    @Setup
+    public void setUp() {
+        checker = new VelocityChecker(new SimpleMeterRegistry(), Long.MAX_VALUE >>> 24, 1e12,
+                Long.MAX_VALUE >>> 24, 1e12, ACCOUNTS * 2);
+    }
+
+    @Benchmark
+    public void hotAccount() {
+        check(1L);
+    }
+
+    @Benchmark
+    public void spreadAccounts() {
+        check(ThreadLocalRandom.current().nextLong(ACCOUNTS));
+    }
+
+    private void check(long accountId) {
+        try {
+            checker.check(accountId, 25.0);
+        } catch (VelocityLimitExceededException ex) {
+            // not expected with these limits
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(VelocityCheckBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
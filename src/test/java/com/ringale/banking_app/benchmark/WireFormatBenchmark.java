@@ -0,0 +1,106 @@
+package com.ringale.banking_app.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.ringale.banking_app.dto.AccountDto;
+import com.ringale.banking_app.dto.AmountRequest;
+import com.ringale.banking_app.dto.ApiResponse;
+
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+/**
+ * Compares JSON and CBOR encoding of account API payloads.
+ * Prints bytes-on-wire per payload, then measures serialization CPU with JMH.
+ * Run the main method on the test classpath after mvn test-compile.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    private static final TypeReference<ApiResponse<AccountDto>> RESPONSE_TYPE = new TypeReference<>() { };
+
+    private final ObjectMapper json = JsonMapper.builder().build();
+    private final ObjectMapper cbor = CBORMapper.builder().build();
+
+    private ApiResponse<AccountDto> response;
+    private AmountRequest request;
+    private byte[] jsonResponse;
+    private byte[] cborResponse;
+    private byte[] jsonRequest;
+    private byte[] cborRequest;
+
+    @Setup
+    public void setUp() {
+        response = ApiResponse.success(new AccountDto(123456L, "John Doe", 1520.75),
+                "Account retrieved successfully", 200);
+        request = new AmountRequest(250.0);
+        jsonResponse = json.writeValueAsBytes(response);
+        cborResponse = cbor.writeValueAsBytes(response);
+        jsonRequest = json.writeValueAsBytes(request);
+        cborRequest = cbor.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public byte[] writeResponseJson() {
+        return json.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] writeResponseCbor() {
+        return cbor.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public ApiResponse<AccountDto> readResponseJson() {
+        return json.readValue(jsonResponse, RESPONSE_TYPE);
+    }
+
+    @Benchmark
+    public ApiResponse<AccountDto> readResponseCbor() {
+        return cbor.readValue(cborResponse, RESPONSE_TYPE);
+    }
+
+    @Benchmark
+    public AmountRequest readRequestJson() {
+        return json.readValue(jsonRequest, AmountRequest.class);
+    }
+
+    @Benchmark
+    public AmountRequest readRequestCbor() {
+        return cbor.readValue(cborRequest, AmountRequest.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        WireFormatBenchmark sizes = new WireFormatBenchmark();
+        sizes.setUp();
+        System.out.printf("ApiResponse<AccountDto>: json=%d bytes, cbor=%d bytes%n",
+                sizes.jsonResponse.length, sizes.cborResponse.length);
+        System.out.printf("AmountRequest:           json=%d bytes, cbor=%d bytes%n",
+                sizes.jsonRequest.length, sizes.cborRequest.length);
+
+        new Runner(new OptionsBuilder()
+                .include(WireFormatBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
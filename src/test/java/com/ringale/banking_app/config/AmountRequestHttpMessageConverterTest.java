@@ -0,0 +1,107 @@
+package com.ringale.banking_app.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import com.ringale.banking_app.dto.AmountRequest;
+
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AmountRequestHttpMessageConverter, including a per-request
+ * allocation comparison against binding the body to a Map.
+ */
+public class AmountRequestHttpMessageConverterTest {
+    
+    private static final int ITERATIONS = 20_000;
+    private static final TypeReference<Map<String, Double>> MAP_TYPE = new TypeReference<>() { };
+    
+    private final AmountRequestHttpMessageConverter converter = new AmountRequestHttpMessageConverter();
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final HttpHeaders headers = new HttpHeaders();
+    
+    @Test
+    void testReadAmount() throws IOException {
+        assertEquals(new AmountRequest(500.0), read("{\"amount\": 500}"));
+        assertEquals(new AmountRequest(12.5), read("{\"amount\": \"12.5\"}"));
+        assertEquals(new AmountRequest(null), read("{\"amount\": null}"));
+        assertEquals(new AmountRequest(7.0), read("{\"memo\": {\"tags\": [\"x\"]}, \"amount\": 7.0}"));
+    }
+    
+    @Test
+    void testReadCurrency() throws IOException {
+        assertEquals(new AmountRequest(5.0, "EUR"), read("{\"currency\": \"EUR\", \"amount\": 5}"));
+        assertEquals(new AmountRequest(5.0, null), read("{\"amount\": 5, \"currency\": null}"));
+        assertThrows(HttpMessageNotReadableException.class, () -> read("{\"amount\": 5, \"currency\": 978}"));
+    }
+    
+    @Test
+    void testReadMalformedBody() {
+        assertThrows(HttpMessageNotReadableException.class, () -> read("[1, 2]"));
+        assertThrows(HttpMessageNotReadableException.class, () -> read("{\"amount\": true}"));
+        assertThrows(HttpMessageNotReadableException.class, () -> read("{\"amount\": \"ten\"}"));
+        assertThrows(HttpMessageNotReadableException.class, () -> read("{\"amount\": 1"));
+        assertThrows(HttpMessageNotReadableException.class, () -> read("{\"amount\": \"NaN\"}"));
+        assertThrows(HttpMessageNotReadableException.class, () -> read("{\"amount\": \"-Infinity\"}"));
+        assertThrows(HttpMessageNotReadableException.class, () -> read("{\"amount\": 1e400}"));
+    }
+    
+    @Test
+    void testStreamingReadAllocatesLessThanMapBinding() throws IOException {
+        // Given
+        byte[] body = "{\"amount\": 250.75}".getBytes(StandardCharsets.UTF_8);
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < ITERATIONS; i++) {
+            converter.read(AmountRequest.class, message(body));
+            jsonMapper.readValue(new ByteArrayInputStream(body), MAP_TYPE);
+        }
+        
+        // When
+        long start = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            converter.read(AmountRequest.class, message(body));
+        }
+        long streamingBytes = (threads.getCurrentThreadAllocatedBytes() - start) / ITERATIONS;
+        
+        start = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            jsonMapper.readValue(new ByteArrayInputStream(body), MAP_TYPE);
+        }
+        long mapBytes = (threads.getCurrentThreadAllocatedBytes() - start) / ITERATIONS;
+        
+        // Then
+        assertTrue(streamingBytes < mapBytes,
+                () -> "streaming=" + streamingBytes + " bytes, Map binding=" + mapBytes + " bytes");
+    }
+    
+    private AmountRequest read(String json) throws IOException {
+        return converter.read(AmountRequest.class, message(json.getBytes(StandardCharsets.UTF_8)));
+    }
+    
+    private HttpInputMessage message(byte[] body) {
+        return new HttpInputMessage() {
+            @Override
+            public InputStream getBody() {
+                return new ByteArrayInputStream(body);
+            }
+            
+            @Override
+            public HttpHeaders getHeaders() {
+                return headers;
+            }
+        };
+    }
+}
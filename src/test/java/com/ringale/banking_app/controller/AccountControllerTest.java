@@ -3,23 +3,55 @@ package com.ringale.banking_app.controller;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.ringale.banking_app.config.AmountRequestHttpMessageConverter;
 import com.ringale.banking_app.dto.AccountDto;
+import com.ringale.banking_app.dto.AccountLookupDto;
+import com.ringale.banking_app.dto.AccountLookupRequest;
+import com.ringale.banking_app.dto.AmountRequest;
 import com.ringale.banking_app.dto.ApiResponse;
+import com.ringale.banking_app.dto.TransferDto;
+import com.ringale.banking_app.dto.TransferRequest;
+import com.ringale.banking_app.exception.CurrencyMismatchException;
+import com.ringale.banking_app.entity.Account;
 import com.ringale.banking_app.exception.AccountNotFoundException;
+import com.ringale.banking_app.exception.GlobalExceptionHandler;
 import com.ringale.banking_app.service.AccountService;
+import com.ringale.banking_app.stream.BalanceStreamHub;
 
-import java.util.HashMap;
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.DoubleSupplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
  * Unit tests for AccountController.
@@ -30,6 +62,9 @@ public class AccountControllerTest {
     @Mock
     private AccountService accountService;
     
+    @Mock
+    private BalanceStreamHub balanceStreamHub;
+    
     @InjectMocks
     private AccountController accountController;
     
@@ -69,7 +104,7 @@ public class AccountControllerTest {
         when(accountService.getAccountById(1L)).thenReturn(accountDto);
         
         // When
-        ResponseEntity<ApiResponse<AccountDto>> response = accountController.getAccountById(1L);
+        ResponseEntity<ApiResponse<AccountDto>> response = accountController.getAccountById(1L, webRequest());
         
         // Then
         assertNotNull(response);
@@ -85,51 +120,208 @@ public class AccountControllerTest {
         when(accountService.getAccountById(999L)).thenThrow(new AccountNotFoundException("Account not found"));
         
         // When & Then
-        assertThrows(AccountNotFoundException.class, () -> accountController.getAccountById(999L));
+        assertThrows(AccountNotFoundException.class, () -> accountController.getAccountById(999L, webRequest()));
     }
     
-    // ========== DEPOSIT AMOUNT TESTS ==========
+    @Test
+    void testGetAccountByIdReturnsETag() throws Exception {
+        // Given
+        accountDto.setVersion(3L);
+        when(accountService.getAccountById(1L)).thenReturn(accountDto);
+        
+        // When & Then
+        mockMvc().perform(get("/api/accounts/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"1-3\""))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andExpect(jsonPath("$.data.version").value(3));
+    }
     
     @Test
-    void testDepositAmountSuccess() {
+    void testGetAccountByIdNotModified() throws Exception {
         // Given
-        Map<String, Double> request = new HashMap<>();
-        request.put("amount", 500.0);
-        when(accountService.depositAmount(1L, 500.0)).thenReturn(accountDto);
+        when(accountService.getAccountVersion(1L)).thenReturn(Optional.of(3L));
+        
+        // When & Then
+        mockMvc().perform(get("/api/accounts/1").header(HttpHeaders.IF_NONE_MATCH, "W/\"1-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"1-3\""))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andExpect(content().string(""));
+        mockMvc().perform(get("/api/accounts/1").header(HttpHeaders.IF_NONE_MATCH, "\"1-2\", \"1-3\""))
+                .andExpect(status().isNotModified());
+        verify(accountService, never()).getAccountById(anyLong());
+    }
+    
+    @Test
+    void testGetAccountByIdModifiedSinceETag() throws Exception {
+        // Given
+        accountDto.setVersion(4L);
+        when(accountService.getAccountVersion(1L)).thenReturn(Optional.of(4L));
+        when(accountService.getAccountById(1L)).thenReturn(accountDto);
+        
+        // When & Then
+        mockMvc().perform(get("/api/accounts/1").header(HttpHeaders.IF_NONE_MATCH, "W/\"1-3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"1-4\""));
+    }
+    
+    // ========== LOOKUP ACCOUNTS TESTS ==========
+    
+    @Test
+    void testLookupAccountsSuccess() {
+        // Given
+        AccountLookupDto lookup = new AccountLookupDto(Map.of(1L, accountDto), List.of(2L));
+        when(accountService.lookupAccounts(List.of(1L, 2L))).thenReturn(lookup);
         
         // When
-        ResponseEntity<ApiResponse<AccountDto>> response = accountController.depositAmount(1L, request);
+        ResponseEntity<ApiResponse<AccountLookupDto>> response =
+                accountController.lookupAccounts(new AccountLookupRequest(List.of(1L, 2L)));
         
         // Then
-        assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals("Amount deposited successfully", response.getBody().getMessage());
+        assertSame(lookup, response.getBody().getData());
     }
     
     @Test
-    void testDepositAmountMissingAmount() {
+    void testLookupAccountsEmptyIds() throws Exception {
+        // When & Then
+        mockMvc().perform(post("/api/accounts/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": []}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Validation failed"));
+    }
+    
+    // ========== STREAM BALANCE TESTS ==========
+    
+    @Test
+    void testStreamBalanceSubscribesWithCurrentBalance() {
         // Given
-        Map<String, Double> request = new HashMap<>();
+        SseEmitter emitter = new SseEmitter();
+        when(accountService.getAccountById(1L)).thenReturn(accountDto);
+        when(balanceStreamHub.subscribe(eq(1L), any(DoubleSupplier.class))).thenReturn(emitter);
+        
+        // When
+        SseEmitter result = accountController.streamBalance(1L);
+        
+        // Then
+        assertSame(emitter, result);
+        ArgumentCaptor<DoubleSupplier> balance = ArgumentCaptor.forClass(DoubleSupplier.class);
+        verify(balanceStreamHub).subscribe(eq(1L), balance.capture());
+        assertEquals(1000.0, balance.getValue().getAsDouble());
+    }
+    
+    @Test
+    void testStreamBalanceAccountNotFound() {
+        // Given
+        when(accountService.getAccountById(999L)).thenThrow(new AccountNotFoundException("Account not found"));
+        when(balanceStreamHub.subscribe(eq(999L), any(DoubleSupplier.class)))
+                .thenAnswer(invocation -> invocation.getArgument(1, DoubleSupplier.class).getAsDouble());
+        
+        // When & Then
+        assertThrows(AccountNotFoundException.class, () -> accountController.streamBalance(999L));
+    }
+    
+    // ========== DEPOSIT AMOUNT TESTS ==========
+    
+    @Test
+    void testDepositAmountSuccess() {
+        // Given
+        AmountRequest request = new AmountRequest(500.0);
+        when(accountService.depositAmount(1L, 500.0, null)).thenReturn(accountDto);
         
         // When
         ResponseEntity<ApiResponse<AccountDto>> response = accountController.depositAmount(1L, request);
         
         // Then
         assertNotNull(response);
-        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals("Validation failed", response.getBody().getMessage());
+        assertEquals("Amount deposited successfully", response.getBody().getMessage());
+    }
+    
+    @Test
+    void testDepositAmountMissingAmount() throws Exception {
+        // When & Then
+        mockMvc().perform(put("/api/accounts/1/deposit")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Validation failed"));
+        verify(accountService, never()).depositAmount(anyLong(), anyDouble(), any());
+    }
+    
+    @Test
+    void testDepositAmountNegativeAmount() throws Exception {
+        // When & Then
+        mockMvc().perform(put("/api/accounts/1/deposit")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"amount\": -5}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Validation failed"));
+    }
+    
+    @Test
+    void testDepositAmountParsedFromJson() throws Exception {
+        // Given
+        when(accountService.depositAmount(1L, 500.0, null)).thenReturn(accountDto);
+        
+        // When & Then
+        mockMvc().perform(put("/api/accounts/1/deposit")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"note\": {\"a\": [1, 2]}, \"amount\": 500}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Amount deposited successfully"));
+    }
+    
+    @Test
+    void testDepositAmountCurrencyMismatch() throws Exception {
+        // Given
+        when(accountService.depositAmount(1L, 500.0, "EUR"))
+                .thenThrow(new CurrencyMismatchException("Currency EUR does not match account currency USD"));
+        
+        // When & Then
+        mockMvc().perform(put("/api/accounts/1/deposit")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"amount\": 500, \"currency\": \"EUR\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Currency mismatch"));
+    }
+    
+    @Test
+    void testDepositAmountInvalidCurrencyCode() throws Exception {
+        // When & Then
+        mockMvc().perform(put("/api/accounts/1/deposit")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"amount\": 500, \"currency\": \"euro\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Validation failed"));
+        verify(accountService, never()).depositAmount(anyLong(), anyDouble(), any());
     }
     
     // ========== WITHDRAW AMOUNT TESTS ==========
     
+    @Test
+    void testWithdrawAmountConcurrentModification() throws Exception {
+        // Given
+        when(accountService.withDrawAmount(1L, 500.0, null))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Account.class, 1L));
+        
+        // When & Then
+        mockMvc().perform(put("/api/accounts/1/withdraw")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"amount\": 500}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Concurrent modification"));
+    }
+    
     @Test
     void testWithdrawAmountSuccess() {
         // Given
-        Map<String, Double> request = new HashMap<>();
-        request.put("amount", 500.0);
-        when(accountService.withDrawAmount(1L, 500.0)).thenReturn(accountDto);
+        AmountRequest request = new AmountRequest(500.0);
+        when(accountService.withDrawAmount(1L, 500.0, null)).thenReturn(accountDto);
         
         // When
         ResponseEntity<ApiResponse<AccountDto>> response = accountController.withDrawAmount(1L, request);
@@ -142,17 +334,56 @@ public class AccountControllerTest {
     }
     
     @Test
-    void testWithdrawAmountMissingAmount() {
+    void testWithdrawAmountMissingAmount() throws Exception {
+        // When & Then
+        mockMvc().perform(put("/api/accounts/1/withdraw")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"amount\": null}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Validation failed"));
+        verify(accountService, never()).withDrawAmount(anyLong(), anyDouble(), any());
+    }
+    
+    // ========== TRANSFER TESTS ==========
+    
+    @Test
+    void testTransferSuccess() {
         // Given
-        Map<String, Double> request = new HashMap<>();
+        AccountDto target = new AccountDto(2L, "Jane Doe", 92.0);
+        target.setCurrency("EUR");
+        TransferDto transfer = new TransferDto(accountDto, target, 100.0, 92.0, new BigDecimal("0.92"));
+        when(accountService.transfer(1L, 2L, 100.0, null)).thenReturn(transfer);
         
         // When
-        ResponseEntity<ApiResponse<AccountDto>> response = accountController.withDrawAmount(1L, request);
+        ResponseEntity<ApiResponse<TransferDto>> response =
+                accountController.transfer(new TransferRequest(1L, 2L, 100.0, null));
         
         // Then
-        assertNotNull(response);
-        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals("Validation failed", response.getBody().getMessage());
+        assertEquals(92.0, response.getBody().getData().getCreditedAmount());
+    }
+    
+    @Test
+    void testTransferMissingTarget() throws Exception {
+        // When & Then
+        mockMvc().perform(post("/api/accounts/transfers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fromAccountId\": 1, \"amount\": 100}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Validation failed"));
+        verify(accountService, never()).transfer(any(), any(), anyDouble(), any());
+    }
+    
+    private ServletWebRequest webRequest() {
+        return new ServletWebRequest(new MockHttpServletRequest());
+    }
+    
+    private MockMvc mockMvc() {
+        return MockMvcBuilders.standaloneSetup(accountController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .setMessageConverters(new AmountRequestHttpMessageConverter(),
+                        new JacksonJsonHttpMessageConverter())
+                .build();
     }
 }
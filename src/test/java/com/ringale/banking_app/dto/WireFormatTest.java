@@ -0,0 +1,45 @@
+package com.ringale.banking_app.dto;
+
+import org.junit.jupiter.api.Test;
+
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Round-trip tests for the JSON and CBOR encodings of API payloads.
+ */
+public class WireFormatTest {
+    
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final CBORMapper cborMapper = CBORMapper.builder().build();
+    
+    @Test
+    void testAccountResponseCborRoundTrip() {
+        // Given
+        ApiResponse<AccountDto> response = ApiResponse.success(
+                new AccountDto(1L, "John Doe", 1000.0), "Account retrieved successfully", 200);
+        
+        // When
+        byte[] cbor = cborMapper.writeValueAsBytes(response);
+        ApiResponse<AccountDto> decoded = cborMapper.readValue(cbor, new TypeReference<ApiResponse<AccountDto>>() { });
+        
+        // Then
+        assertEquals(response, decoded);
+        assertTrue(cbor.length < jsonMapper.writeValueAsBytes(response).length);
+    }
+    
+    @Test
+    void testAmountRequestCborRoundTrip() {
+        // Given
+        AmountRequest request = new AmountRequest(250.5);
+        
+        // When
+        AmountRequest decoded = cborMapper.readValue(cborMapper.writeValueAsBytes(request), AmountRequest.class);
+        
+        // Then
+        assertEquals(request, decoded);
+    }
+}
@@ -0,0 +1,128 @@
+package com.ringale.banking_app.fx;
+
+import org.junit.jupiter.api.Test;
+
+import com.ringale.banking_app.exception.FxRateUnavailableException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FxRateCache.
+ */
+public class FxRateCacheTest {
+    
+    private final AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+    private final AtomicReference<Map<String, BigDecimal>> rates = new AtomicReference<>(Map.of(
+            "EUR", new BigDecimal("0.80"),
+            "JPY", new BigDecimal("150")));
+    
+    private final FxRateSource source = () -> {
+        Map<String, BigDecimal> current = rates.get();
+        if (current == null) {
+            throw new IOException("Rate feed down");
+        }
+        return current;
+    };
+    
+    private FxRateCache cache() {
+        return new FxRateCache(source, new SimpleMeterRegistry(), "USD", 60_000L, clock::get);
+    }
+    
+    // ========== CONVERSION TESTS ==========
+    
+    @Test
+    void testConvertFromBaseCurrency() {
+        // Given
+        FxRateCache cache = cache();
+        
+        // When
+        FxConversion conversion = cache.convert(100.0, "USD", "EUR");
+        
+        // Then
+        assertEquals(0, new BigDecimal("0.80").compareTo(conversion.rate()));
+        assertEquals(80.0, conversion.amount());
+    }
+    
+    @Test
+    void testConvertCrossRateRoundsToMinorUnit() {
+        // Given
+        FxRateCache cache = cache();
+        
+        // When
+        FxConversion conversion = cache.convert(10.01, "EUR", "JPY");
+        
+        // Then
+        assertEquals(1877.0, conversion.amount());
+    }
+    
+    @Test
+    void testSameCurrencyNeedsNoRate() {
+        // Given
+        rates.set(null);
+        FxRateCache cache = cache();
+        
+        // When
+        FxConversion conversion = cache.convert(12.34, "GBP", "GBP");
+        
+        // Then
+        assertEquals(12.34, conversion.amount());
+    }
+    
+    @Test
+    void testUnknownCurrency() {
+        // When & Then
+        assertThrows(FxRateUnavailableException.class, () -> cache().convert(1.0, "USD", "CHF"));
+    }
+    
+    // ========== REFRESH TESTS ==========
+    
+    @Test
+    void testRefreshSwapsSnapshot() {
+        // Given
+        FxRateCache cache = cache();
+        rates.set(Map.of("EUR", new BigDecimal("0.90")));
+        
+        // When
+        cache.refresh();
+        
+        // Then
+        assertEquals(90.0, cache.convert(100.0, "USD", "EUR").amount());
+    }
+    
+    @Test
+    void testFailedRefreshKeepsRatesUntilStale() {
+        // Given
+        FxRateCache cache = cache();
+        rates.set(null);
+        
+        // When
+        clock.addAndGet(30_000L);
+        cache.refresh();
+        
+        // Then
+        assertEquals(80.0, cache.convert(100.0, "USD", "EUR").amount());
+        clock.addAndGet(31_000L);
+        assertThrows(FxRateUnavailableException.class, () -> cache.convert(100.0, "USD", "EUR"));
+    }
+    
+    @Test
+    void testInvalidRatesAreRejected() {
+        // Given
+        FxRateCache cache = cache();
+        rates.set(Map.of("EUR", BigDecimal.ZERO));
+        
+        // When
+        cache.refresh();
+        
+        // Then
+        assertEquals(80.0, cache.convert(100.0, "USD", "EUR").amount());
+    }
+}
@@ -0,0 +1,70 @@
+package com.ringale.banking_app.hold;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for HierarchicalTimingWheel.
+ */
+public class HierarchicalTimingWheelTest {
+    
+    private static final long START = 1_000_000L;
+    
+    @Test
+    void testItemsBecomeDueAtTheirDeadline() {
+        // Given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, START);
+        wheel.schedule("a", START + 50);
+        wheel.schedule("b", START + 30);
+        
+        // When & Then
+        assertEquals(List.of(), wheel.advanceTo(START + 29));
+        assertEquals(List.of("b"), wheel.advanceTo(START + 30));
+        assertEquals(List.of("a"), wheel.advanceTo(START + 100));
+        assertEquals(0, wheel.size());
+    }
+    
+    @Test
+    void testPastDeadlineIsNotScheduled() {
+        // Given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, START);
+        wheel.advanceTo(START + 100);
+        
+        // When & Then
+        assertFalse(wheel.schedule("late", START + 100));
+        assertTrue(wheel.schedule("next", START + 101));
+    }
+    
+    @Test
+    void testDeadlinesAcrossAllLevelsCascadeCorrectly() {
+        // Given - deadlines from one tick up to beyond the wheel's range
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(1, START);
+        Random random = new Random(42);
+        List<Long> deadlines = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            long delay = 1 + (long) Math.pow(random.nextDouble(), 6) * 2_000_000_000L;
+            deadlines.add(START + delay);
+            assertTrue(wheel.schedule(START + delay, START + delay));
+        }
+        
+        // When - advance in uneven steps and check nothing fires early or late
+        long now = START;
+        int fired = 0;
+        while (fired < deadlines.size()) {
+            now += 1 + random.nextInt(5_000_000);
+            for (Long deadline : wheel.advanceTo(now)) {
+                assertTrue(deadline <= now, "fired early");
+                assertTrue(deadline > now - 5_000_001, "fired late");
+                fired++;
+            }
+        }
+        
+        // Then
+        assertEquals(0, wheel.size());
+    }
+}
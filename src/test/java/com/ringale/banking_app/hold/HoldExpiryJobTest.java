@@ -0,0 +1,92 @@
+package com.ringale.banking_app.hold;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import com.ringale.banking_app.entity.HoldStatus;
+import com.ringale.banking_app.repository.FundHoldRepository;
+import com.ringale.banking_app.service.HoldService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for HoldExpiryJob.
+ */
+@ExtendWith(MockitoExtension.class)
+public class HoldExpiryJobTest {
+    
+    @Mock
+    private HoldExpiryScheduler scheduler;
+    
+    @Mock
+    private HoldService holdService;
+    
+    @Mock
+    private FundHoldRepository fundHoldRepository;
+    
+    private HoldExpiryJob job;
+    
+    @BeforeEach
+    void setUp() {
+        job = new HoldExpiryJob(scheduler, holdService, fundHoldRepository, 2, 1000L, 5000L);
+    }
+    
+    // ========== SWEEP TESTS ==========
+    
+    @Test
+    void testSweepReleasesOverdueHoldsInBatches() {
+        // Given
+        when(fundHoldRepository.findIdsDueBefore(eq(HoldStatus.ACTIVE), any(LocalDateTime.class), eq(Limit.of(2))))
+                .thenReturn(List.of(1L, 2L)).thenReturn(List.of(3L));
+        when(holdService.expireHolds(List.of(1L, 2L))).thenReturn(2);
+        when(holdService.expireHolds(List.of(3L))).thenReturn(1);
+        
+        // When
+        int swept = job.sweepOverdueHolds();
+        
+        // Then
+        assertEquals(3, swept);
+        verify(fundHoldRepository, times(2)).findIdsDueBefore(any(), any(), any());
+    }
+    
+    @Test
+    void testSweepLeavesHoldsWithinGracePeriod() {
+        // Given
+        LocalDateTime startedAt = LocalDateTime.now();
+        when(fundHoldRepository.findIdsDueBefore(eq(HoldStatus.ACTIVE), any(LocalDateTime.class), any()))
+                .thenReturn(List.of());
+        
+        // When
+        int swept = job.sweepOverdueHolds();
+        
+        // Then
+        assertEquals(0, swept);
+        verify(fundHoldRepository).findIdsDueBefore(eq(HoldStatus.ACTIVE),
+                argThat(before -> !before.isAfter(startedAt.minusSeconds(4))), any());
+        verify(holdService, never()).expireHolds(any());
+    }
+    
+    @Test
+    void testSweepStopsWhenBatchFails() {
+        // Given
+        when(fundHoldRepository.findIdsDueBefore(any(), any(), any())).thenReturn(List.of(1L, 2L));
+        when(holdService.expireHolds(any())).thenThrow(new RuntimeException("lock timeout"));
+        
+        // When
+        int swept = job.sweepOverdueHolds();
+        
+        // Then
+        assertEquals(0, swept);
+        verify(holdService, times(1)).expireHolds(any());
+    }
+}
@@ -0,0 +1,40 @@
+package com.ringale.banking_app.loadgen;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Settings for one load generator run.
+ *
+ * @param mix - Operation mix
+ * @param ratePerSecond - Mean arrival rate; arrivals are Poisson and do not wait for responses
+ * @param warmup - Time run before measuring
+ * @param duration - Measured time
+ * @param accounts - Number of accounts created before the run
+ * @param theta - Zipfian skew of account keys
+ * @param maxInFlight - Requests outstanding before new arrivals are dropped and counted
+ */
+public record LoadConfig(WorkloadMix mix, double ratePerSecond, Duration warmup, Duration duration, int accounts,
+        double theta, int maxInFlight) {
+
+    /**
+     * Read settings from loadgen.* system properties, with defaults for a short local run
+     */
+    public static LoadConfig fromSystemProperties() {
+        return new LoadConfig(
+                WorkloadMix.valueOf(System.getProperty("loadgen.mix", WorkloadMix.MIXED.name())),
+                Double.parseDouble(System.getProperty("loadgen.rate", "200")),
+                Duration.ofSeconds(Long.getLong("loadgen.warmup-seconds", 10)),
+                Duration.ofSeconds(Long.getLong("loadgen.duration-seconds", 30)),
+                Integer.getInteger("loadgen.accounts", 1000),
+                Double.parseDouble(System.getProperty("loadgen.theta", String.valueOf(ZipfianGenerator.DEFAULT_THETA))),
+                Integer.getInteger("loadgen.max-in-flight", 10_000));
+    }
+
+    /**
+     * Directory reports are written to
+     */
+    public static Path outputDirectory() {
+        return Path.of(System.getProperty("loadgen.output", "target/loadgen"));
+    }
+}
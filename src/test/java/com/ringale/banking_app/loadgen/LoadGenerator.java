@@ -0,0 +1,217 @@
+package com.ringale.banking_app.loadgen;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Open-loop HTTP load generator for the account endpoints.
+ * Arrivals follow a Poisson process at the configured rate and are sent
+ * without waiting for earlier responses, the way independent clients
+ * behave, so a slow server builds a queue instead of slowing the generator
+ * down. Account keys are drawn from a Zipfian distribution over accounts
+ * created by {@link #seed()}. Each request belongs to the period it was
+ * scheduled in, so warmup requests that complete during the measured period
+ * are not counted.
+ */
+public class LoadGenerator {
+
+    private static final int LOOKUP_BATCH = 10;
+    private static final int SEED_CONCURRENCY = 32;
+    private static final double SEED_BALANCE = 1_000_000;
+    private static final int SEED_ATTEMPTS = 20;
+    private static final Duration SEED_RETRY_DELAY = Duration.ofMillis(100);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(60);
+
+    private final URI baseUri;
+    private final LoadConfig config;
+    private final HttpClient client;
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final ConcurrentHashMap<Long, String> eTags = new ConcurrentHashMap<>();
+    private final ZipfianGenerator keys;
+    private long[] accountIds = new long[0];
+
+    public LoadGenerator(URI baseUri, LoadConfig config) {
+        this.baseUri = baseUri;
+        this.config = config;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.keys = new ZipfianGenerator(config.accounts(), config.theta());
+    }
+
+    /**
+     * Create the accounts the workload runs against
+     */
+    public void seed() throws InterruptedException {
+        Semaphore permits = new Semaphore(SEED_CONCURRENCY);
+        List<CompletableFuture<Long>> created = new ArrayList<>(config.accounts());
+        for (int i = 0; i < config.accounts(); i++) {
+            permits.acquire();
+            String body = "{\"accountOwner\": \"Load " + i + "\", \"balance\": " + SEED_BALANCE + "}";
+            created.add(create(body, SEED_ATTEMPTS).whenComplete((id, ex) -> permits.release()));
+        }
+        long[] ids = new long[created.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = created.get(i).join();
+        }
+        this.accountIds = ids;
+    }
+
+    /**
+     * Create one account, retrying while admission control sheds the request
+     */
+    private CompletableFuture<Long> create(String body, int attempts) {
+        return client.sendAsync(json("/api/accounts", "POST", body), HttpResponse.BodyHandlers.ofString())
+                .thenCompose(response -> {
+                    if (response.statusCode() == 429 && attempts > 1) {
+                        return CompletableFuture.supplyAsync(() -> body,
+                                CompletableFuture.delayedExecutor(SEED_RETRY_DELAY.toMillis(), TimeUnit.MILLISECONDS))
+                                .thenCompose(retry -> create(retry, attempts - 1));
+                    }
+                    return CompletableFuture.completedFuture(createdId(response));
+                });
+    }
+
+    /**
+     * Run the warmup and the measured period
+     *
+     * @return Results of the measured period
+     */
+    public LoadReport run() throws InterruptedException {
+        if (accountIds.length == 0) {
+            throw new IllegalStateException("Seed accounts before running");
+        }
+        LoadStats stats = new LoadStats();
+        Semaphore inFlight = new Semaphore(config.maxInFlight());
+        long start = System.nanoTime();
+        long measureFrom = start + config.warmup().toNanos();
+        long end = measureFrom + config.duration().toNanos();
+        long meanGapNanos = (long) (1e9 / config.ratePerSecond());
+
+        long scheduled = start;
+        while (true) {
+            scheduled += exponential(meanGapNanos);
+            if (scheduled >= end) {
+                break;
+            }
+            long wait;
+            while ((wait = scheduled - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            boolean measured = scheduled >= measureFrom;
+            Operation operation = config.mix().next();
+            if (!inFlight.tryAcquire()) {
+                if (measured) {
+                    stats.dropped(operation);
+                }
+                continue;
+            }
+            long arrival = scheduled;
+            long accountId = account();
+            client.sendAsync(request(operation, accountId), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, ex) -> {
+                        long latency = System.nanoTime() - arrival;
+                        inFlight.release();
+                        if (ex != null) {
+                            if (measured) {
+                                stats.failed(operation, latency);
+                            }
+                            return;
+                        }
+                        response.headers().firstValue("ETag").ifPresent(eTag -> eTags.put(accountId, eTag));
+                        if (measured) {
+                            stats.completed(operation, latency, response.statusCode());
+                        }
+                    });
+        }
+        if (!inFlight.tryAcquire(config.maxInFlight(), DRAIN_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+            System.err.println("Requests still outstanding after " + DRAIN_TIMEOUT + ", reporting without them");
+        }
+        return stats.report(config, end - measureFrom);
+    }
+
+    private HttpRequest request(Operation operation, long accountId) {
+        String account = "/api/accounts/" + accountId;
+        switch (operation) {
+            case GET_ACCOUNT:
+                return get(account).build();
+            case CONDITIONAL_GET: {
+                HttpRequest.Builder builder = get(account);
+                String eTag = eTags.get(accountId);
+                if (eTag != null) {
+                    builder.header("If-None-Match", eTag);
+                }
+                return builder.build();
+            }
+            case LOOKUP: {
+                StringJoiner ids = new StringJoiner(", ", "{\"ids\": [", "]}");
+                for (int i = 0; i < LOOKUP_BATCH; i++) {
+                    ids.add(String.valueOf(account()));
+                }
+                return json("/api/accounts/lookup", "POST", ids.toString());
+            }
+            case DEPOSIT:
+                return json(account + "/deposit", "PUT", "{\"amount\": 10.0}");
+            case WITHDRAW:
+                return json(account + "/withdraw", "PUT", "{\"amount\": 5.0}");
+            case OVERDRAFT_WITHDRAW:
+                return json(account + "/withdraw", "PUT", "{\"amount\": " + SEED_BALANCE * 1000 + "}");
+            case TRANSFER: {
+                long target = accountIds[ThreadLocalRandom.current().nextInt(accountIds.length)];
+                if (target == accountId) {
+                    target = accountIds[(int) ((keys.next() + 1) % accountIds.length)];
+                }
+                return json("/api/accounts/transfers", "POST", "{\"fromAccountId\": " + accountId
+                        + ", \"toAccountId\": " + target + ", \"amount\": 1.0}");
+            }
+            default:
+                throw new IllegalArgumentException("Unknown operation " + operation);
+        }
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).timeout(REQUEST_TIMEOUT).GET();
+    }
+
+    private HttpRequest json(String path, String method, String body) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private long createdId(HttpResponse<String> response) {
+        if (response.statusCode() != 201) {
+            throw new IllegalStateException("Account creation returned " + response.statusCode() + ": "
+                    + response.body());
+        }
+        JsonNode data = jsonMapper.readTree(response.body()).path("data");
+        return data.path("id").asLong();
+    }
+
+    private long account() {
+        return accountIds[(int) keys.next()];
+    }
+
+    private static long exponential(long meanNanos) {
+        return (long) (-Math.log(1 - ThreadLocalRandom.current().nextDouble()) * meanNanos);
+    }
+}
@@ -0,0 +1,71 @@
+package com.ringale.banking_app.loadgen;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+@Tag("load")
+class LoadGeneratorTest {
+
+    private static ConfigurableApplicationContext context;
+    private static URI baseUri;
+
+    @BeforeAll
+    static void startApplication() {
+        context = LoadTestRunner.start(false);
+        baseUri = URI.create("http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort());
+    }
+
+    @AfterAll
+    static void stopApplication() {
+        context.close();
+    }
+
+    // ========== RUN TESTS ==========
+
+    @Test
+    void testRun_MixedWorkload_CompletesWithoutErrors(@TempDir Path directory) throws Exception {
+        // Given
+        LoadConfig config = new LoadConfig(WorkloadMix.MIXED, 100, Duration.ofMillis(500), Duration.ofSeconds(2),
+                20, ZipfianGenerator.DEFAULT_THETA, 1000);
+
+        // When
+        LoadReport report = LoadTestRunner.run(baseUri, config);
+        report.write(directory);
+
+        // Then
+        assertTrue(report.total().completed() > 0);
+        assertEquals(0, report.total().errors());
+        assertEquals(0, report.total().dropped());
+        assertTrue(report.total().succeeded() > 0);
+        assertTrue(Files.exists(directory.resolve("mixed.properties")));
+        assertTrue(Files.exists(directory.resolve("mixed.hgrm")));
+    }
+
+    @Test
+    void testRun_WithdrawalRejections_CountsClientErrors() throws Exception {
+        // Given
+        LoadConfig config = new LoadConfig(WorkloadMix.WITHDRAWAL_REJECTIONS, 100, Duration.ZERO,
+                Duration.ofSeconds(1), 10, ZipfianGenerator.DEFAULT_THETA, 1000);
+
+        // When
+        LoadReport report = LoadTestRunner.run(baseUri, config);
+
+        // Then
+        assertTrue(report.operation(Operation.OVERDRAFT_WITHDRAW).rejected() > 0);
+        assertEquals(0, report.operation(Operation.OVERDRAFT_WITHDRAW).succeeded());
+        assertEquals(0, report.total().errors());
+    }
+}
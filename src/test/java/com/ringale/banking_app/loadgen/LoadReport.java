@@ -0,0 +1,203 @@
+package com.ringale.banking_app.loadgen;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.IntPredicate;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Results of a load generator run: throughput, outcome counts and latency
+ * percentiles per operation and overall. Latency is measured from the
+ * scheduled arrival time, not from when the request was actually sent, so
+ * queueing in the client or server is not hidden (coordinated omission).
+ * A run writes a summary properties file and an .hgrm percentile
+ * distribution; a summary from an earlier run can be passed back as the
+ * baseline to print the change of each figure.
+ */
+public class LoadReport {
+
+    private static final double[] PERCENTILES = { 50, 90, 99, 99.9 };
+    private static final String[] PERCENTILE_KEYS = { "p50", "p90", "p99", "p999" };
+
+    private final LoadConfig config;
+    private final long measuredNanos;
+    private final Map<Operation, OperationResult> operations;
+    private final OperationResult total;
+
+    LoadReport(LoadConfig config, long measuredNanos, Map<Operation, OperationResult> operations) {
+        this.config = config;
+        this.measuredNanos = measuredNanos;
+        this.operations = operations;
+        Histogram histogram = new Histogram(3);
+        long failures = 0;
+        long dropped = 0;
+        Map<Integer, Long> statuses = new TreeMap<>();
+        for (OperationResult result : operations.values()) {
+            histogram.add(result.histogram());
+            failures += result.failures();
+            dropped += result.dropped();
+            result.statuses().forEach((status, count) -> statuses.merge(status, count, Long::sum));
+        }
+        this.total = new OperationResult(histogram, statuses, failures, dropped);
+    }
+
+    /**
+     * Outcomes and latencies of one operation
+     *
+     * @param histogram - Latencies in microseconds
+     * @param statuses - Response count by HTTP status
+     * @param failures - Requests that got no response
+     * @param dropped - Arrivals not sent because too many requests were outstanding
+     */
+    public record OperationResult(Histogram histogram, Map<Integer, Long> statuses, long failures, long dropped) {
+
+        public long completed() {
+            return histogram.getTotalCount() - failures;
+        }
+
+        /** Responses with a 2xx or 304 status */
+        public long succeeded() {
+            return count(status -> status < 300 || status == 304);
+        }
+
+        /** Responses with a 4xx status other than 304, e.g. insufficient balance or velocity limits */
+        public long rejected() {
+            return count(status -> status >= 400 && status < 500);
+        }
+
+        /** Responses with a 5xx status plus requests that got no response */
+        public long errors() {
+            return count(status -> status >= 500) + failures;
+        }
+
+        private long count(IntPredicate matches) {
+            long count = 0;
+            for (Map.Entry<Integer, Long> entry : statuses.entrySet()) {
+                if (matches.test(entry.getKey())) {
+                    count += entry.getValue();
+                }
+            }
+            return count;
+        }
+    }
+
+    public OperationResult total() {
+        return total;
+    }
+
+    public OperationResult operation(Operation operation) {
+        return operations.get(operation);
+    }
+
+    /**
+     * Completed responses per second over the measured time
+     */
+    public double throughput() {
+        return total.completed() / (measuredNanos / 1e9);
+    }
+
+    public void print(PrintStream out) {
+        out.printf("Workload %s at %.0f req/s for %d s (open loop, %d accounts, Zipf theta %.2f)%n",
+                config.mix(), config.ratePerSecond(), config.duration().toSeconds(), config.accounts(),
+                config.theta());
+        out.printf("%-20s %8s %8s %8s %7s %7s %9s %9s %9s %9s %9s  %s%n", "operation", "count", "ok", "rejected",
+                "errors", "dropped", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "statuses");
+        for (Map.Entry<Operation, OperationResult> entry : operations.entrySet()) {
+            if (entry.getValue().histogram().getTotalCount() > 0 || entry.getValue().dropped() > 0) {
+                printRow(out, entry.getKey().name(), entry.getValue());
+            }
+        }
+        printRow(out, "total", total);
+        out.printf("Throughput: %.1f responses/s%n", throughput());
+    }
+
+    /**
+     * Write the summary and the overall latency distribution
+     *
+     * @param directory - Output directory, created if missing
+     * @return Path of the summary file
+     */
+    public Path write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path summary = directory.resolve(fileName(".properties"));
+        try (Writer writer = Files.newBufferedWriter(summary)) {
+            summary().store(writer, "Load generator summary, latencies in ms");
+        }
+        try (PrintStream out = new PrintStream(Files.newOutputStream(
+                directory.resolve(fileName(".hgrm"))))) {
+            total.histogram().outputPercentileDistribution(out, 1000.0);
+        }
+        return summary;
+    }
+
+    /**
+     * Print each summary figure next to the same figure from a baseline run
+     *
+     * @param baseline - Directory an earlier run of the same mix was written to
+     */
+    public void compare(Path baseline, PrintStream out) throws IOException {
+        Properties previous = new Properties();
+        try (Reader reader = Files.newBufferedReader(baseline.resolve(fileName(".properties")))) {
+            previous.load(reader);
+        }
+        out.printf("Compared with baseline %s:%n", baseline);
+        Properties current = summary();
+        for (String key : new TreeSet<>(current.stringPropertyNames())) {
+            String before = previous.getProperty(key);
+            if (before == null) {
+                continue;
+            }
+            double was = Double.parseDouble(before);
+            double now = Double.parseDouble(current.getProperty(key));
+            String change = was == 0 ? "n/a" : String.format(Locale.ROOT, "%+.1f%%", (now - was) / was * 100);
+            out.printf("  %-32s %12.3f -> %12.3f  %s%n", key, was, now, change);
+        }
+    }
+
+    private Properties summary() {
+        Properties properties = new Properties();
+        properties.setProperty("total.throughput", String.format(Locale.ROOT, "%.3f", throughput()));
+        put(properties, "total", total);
+        operations.forEach((operation, result) -> {
+            if (result.histogram().getTotalCount() > 0) {
+                put(properties, operation.name().toLowerCase(Locale.ROOT), result);
+            }
+        });
+        return properties;
+    }
+
+    private String fileName(String extension) {
+        return config.mix().name().toLowerCase(Locale.ROOT) + extension;
+    }
+
+    private static void put(Properties properties, String prefix, OperationResult result) {
+        properties.setProperty(prefix + ".count", String.valueOf(result.histogram().getTotalCount()));
+        properties.setProperty(prefix + ".rejected", String.valueOf(result.rejected()));
+        properties.setProperty(prefix + ".errors", String.valueOf(result.errors()));
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            properties.setProperty(prefix + "." + PERCENTILE_KEYS[i] + "_ms",
+                    String.format(Locale.ROOT, "%.3f", result.histogram().getValueAtPercentile(PERCENTILES[i]) / 1000.0));
+        }
+    }
+
+    private static void printRow(PrintStream out, String name, OperationResult result) {
+        Histogram histogram = result.histogram();
+        StringBuilder statuses = new StringBuilder();
+        result.statuses().forEach((status, count) -> statuses.append(status).append('x').append(count).append(' '));
+        out.printf("%-20s %8d %8d %8d %7d %7d %9.2f %9.2f %9.2f %9.2f %9.2f  %s%n", name,
+                histogram.getTotalCount(), result.succeeded(), result.rejected(), result.errors(), result.dropped(),
+                histogram.getValueAtPercentile(50) / 1000.0, histogram.getValueAtPercentile(90) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0, histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0, statuses.toString().trim());
+    }
+}
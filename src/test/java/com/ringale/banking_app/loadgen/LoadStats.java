@@ -0,0 +1,65 @@
+package com.ringale.banking_app.loadgen;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Thread-safe collector of per-operation outcomes and latencies during a run.
+ * Latencies are recorded in microseconds into HdrHistogram recorders, so
+ * response callbacks never contend on a shared histogram.
+ */
+class LoadStats {
+
+    private final Map<Operation, OperationStats> operations = new EnumMap<>(Operation.class);
+
+    LoadStats() {
+        for (Operation operation : Operation.values()) {
+            operations.put(operation, new OperationStats());
+        }
+    }
+
+    void completed(Operation operation, long latencyNanos, int status) {
+        OperationStats stats = operations.get(operation);
+        stats.recorder.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        stats.statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+    }
+
+    void failed(Operation operation, long latencyNanos) {
+        OperationStats stats = operations.get(operation);
+        stats.recorder.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        stats.failures.increment();
+    }
+
+    void dropped(Operation operation) {
+        operations.get(operation).dropped.increment();
+    }
+
+    /**
+     * Snapshot the results recorded so far
+     */
+    LoadReport report(LoadConfig config, long measuredNanos) {
+        Map<Operation, LoadReport.OperationResult> results = new EnumMap<>(Operation.class);
+        operations.forEach((operation, stats) -> {
+            Histogram histogram = stats.recorder.getIntervalHistogram();
+            Map<Integer, Long> statuses = new TreeMap<>();
+            stats.statuses.forEach((status, count) -> statuses.put(status, count.sum()));
+            results.put(operation, new LoadReport.OperationResult(histogram, statuses, stats.failures.sum(),
+                    stats.dropped.sum()));
+        });
+        return new LoadReport(config, measuredNanos, results);
+    }
+
+    private static final class OperationStats {
+        private final Recorder recorder = new Recorder(3);
+        private final ConcurrentHashMap<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+    }
+}
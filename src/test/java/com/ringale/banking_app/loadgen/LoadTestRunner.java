@@ -0,0 +1,91 @@
+package com.ringale.banking_app.loadgen;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.ringale.banking_app.BankingAppApplication;
+
+/**
+ * Runs one workload mix and writes its report under target/loadgen, e.g.
+ * mvn test-compile, then run this class on the test classpath with
+ * -Dloadgen.mix=DEPOSIT_STORM -Dloadgen.rate=500 -Dloadgen.duration-seconds=60.
+ * Without -Dloadgen.base-url the application is started in-process on a random
+ * port against the embedded H2 database of the test profile. Rate limits and
+ * withdrawal velocity rules are lifted so the run measures the request path
+ * rather than rejections; pass -Dloadgen.limits=true to keep the configured ones.
+ * Pass -Dloadgen.baseline=target/loadgen-baseline to print the change against
+ * the report of an earlier run of the same mix.
+ */
+public class LoadTestRunner {
+
+    private static final String[] UNLIMITED = {
+            "--banking.rate-limit.client.permits-per-second=1000000",
+            "--banking.rate-limit.client.burst=1000000",
+            "--banking.rate-limit.account.permits-per-second=1000000",
+            "--banking.rate-limit.account.burst=1000000",
+            "--banking.velocity.per-minute.max-count=1000000000",
+            "--banking.velocity.per-minute.max-amount=1000000000000",
+            "--banking.velocity.per-hour.max-count=1000000000",
+            "--banking.velocity.per-hour.max-amount=1000000000000"
+    };
+
+    public static void main(String[] args) throws Exception {
+        LoadConfig config = LoadConfig.fromSystemProperties();
+        String baseUrl = System.getProperty("loadgen.base-url");
+        ConfigurableApplicationContext context = null;
+        try {
+            if (baseUrl == null) {
+                context = start(Boolean.getBoolean("loadgen.limits"));
+                baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+            }
+            LoadReport report = run(URI.create(baseUrl), config);
+            report.print(System.out);
+            Path directory = LoadConfig.outputDirectory();
+            report.write(directory);
+            System.out.println("Report written to " + directory.toAbsolutePath());
+
+            String baseline = System.getProperty("loadgen.baseline");
+            if (baseline != null) {
+                report.compare(Path.of(baseline), System.out);
+            }
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    /**
+     * Seed accounts and run the configured workload
+     *
+     * @param baseUri - Application base URI
+     * @param config - Run settings
+     * @return Results of the measured period
+     */
+    public static LoadReport run(URI baseUri, LoadConfig config) throws InterruptedException {
+        LoadGenerator generator = new LoadGenerator(baseUri, config);
+        generator.seed();
+        return generator.run();
+    }
+
+    /**
+     * Start the application in-process on a random port with the test profile
+     *
+     * @param keepLimits - Keep configured rate limits and velocity rules
+     */
+    public static ConfigurableApplicationContext start(boolean keepLimits) {
+        List<String> args = new ArrayList<>(List.of("--server.port=0", "--banking.archive.enabled=false"));
+        if (!keepLimits) {
+            args.addAll(List.of(UNLIMITED));
+        }
+        return new SpringApplicationBuilder(BankingAppApplication.class)
+                .profiles("test")
+                .run(args.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,28 @@
+package com.ringale.banking_app.loadgen;
+
+/**
+ * Requests the load generator issues against the account endpoints.
+ */
+public enum Operation {
+
+    /** GET /api/accounts/{id} */
+    GET_ACCOUNT,
+
+    /** GET /api/accounts/{id} with If-None-Match from the last response for the account */
+    CONDITIONAL_GET,
+
+    /** POST /api/accounts/lookup with a batch of IDs */
+    LOOKUP,
+
+    /** PUT /api/accounts/{id}/deposit */
+    DEPOSIT,
+
+    /** PUT /api/accounts/{id}/withdraw within the balance; hot accounts run into velocity limits */
+    WITHDRAW,
+
+    /** PUT /api/accounts/{id}/withdraw above the balance, rejected as insufficient */
+    OVERDRAFT_WITHDRAW,
+
+    /** POST /api/accounts/transfers between two accounts */
+    TRANSFER
+}
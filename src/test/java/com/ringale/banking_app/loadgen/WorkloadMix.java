@@ -0,0 +1,85 @@
+package com.ringale.banking_app.loadgen;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Weighted mixes of operations, each modelling a traffic pattern.
+ * Account keys are drawn with Zipfian skew, so a few accounts take most of
+ * the traffic and row contention shows up as it would in production.
+ */
+public enum WorkloadMix {
+
+    /** Clients polling balances, mostly with conditional GETs */
+    READ_HEAVY(Map.of(
+            Operation.CONDITIONAL_GET, 60,
+            Operation.GET_ACCOUNT, 25,
+            Operation.LOOKUP, 10,
+            Operation.DEPOSIT, 5)),
+
+    /** Deposits concentrated on the hottest accounts */
+    DEPOSIT_STORM(Map.of(
+            Operation.DEPOSIT, 85,
+            Operation.GET_ACCOUNT, 15)),
+
+    /** Withdrawals that are refused for insufficient funds or velocity limits */
+    WITHDRAWAL_REJECTIONS(Map.of(
+            Operation.OVERDRAFT_WITHDRAW, 45,
+            Operation.WITHDRAW, 45,
+            Operation.GET_ACCOUNT, 10)),
+
+    /** A bit of everything */
+    MIXED(Map.of(
+            Operation.GET_ACCOUNT, 40,
+            Operation.CONDITIONAL_GET, 20,
+            Operation.LOOKUP, 5,
+            Operation.DEPOSIT, 15,
+            Operation.WITHDRAW, 10,
+            Operation.OVERDRAFT_WITHDRAW, 5,
+            Operation.TRANSFER, 5));
+
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+
+    WorkloadMix(Map<Operation, Integer> weights) {
+        Map<Operation, Integer> ordered = new EnumMap<>(weights);
+        this.operations = new Operation[ordered.size()];
+        this.cumulativeWeights = new int[ordered.size()];
+        int total = 0;
+        int i = 0;
+        for (Map.Entry<Operation, Integer> entry : ordered.entrySet()) {
+            total += entry.getValue();
+            operations[i] = entry.getKey();
+            cumulativeWeights[i] = total;
+            i++;
+        }
+    }
+
+    /**
+     * Draw the next operation according to the mix weights
+     */
+    public Operation next() {
+        int roll = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException("Weights do not cover roll " + roll);
+    }
+
+    /**
+     * Share of traffic taken by an operation
+     */
+    public double share(Operation operation) {
+        int previous = 0;
+        for (int i = 0; i < operations.length; i++) {
+            if (operations[i] == operation) {
+                return (double) (cumulativeWeights[i] - previous) / cumulativeWeights[cumulativeWeights.length - 1];
+            }
+            previous = cumulativeWeights[i];
+        }
+        return 0;
+    }
+}
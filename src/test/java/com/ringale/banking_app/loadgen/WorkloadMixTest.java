@@ -0,0 +1,21 @@
+package com.ringale.banking_app.loadgen;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class WorkloadMixTest {
+
+    // ========== WORKLOAD MIX TESTS ==========
+
+    @Test
+    void testWorkloadMix_SharesSumToOne() {
+        for (WorkloadMix mix : WorkloadMix.values()) {
+            double sum = 0;
+            for (Operation operation : Operation.values()) {
+                sum += mix.share(operation);
+            }
+            assertEquals(1.0, sum, 1e-9, mix.name());
+        }
+    }
+}
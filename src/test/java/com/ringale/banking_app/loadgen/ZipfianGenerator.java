@@ -0,0 +1,62 @@
+package com.ringale.banking_app.loadgen;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Draws integers in [0, items) with Zipfian skew, item 0 being the most popular.
+ * Uses the rejection-free method from Gray et al., "Quickly Generating
+ * Billion-Record Synthetic Databases", as popularised by YCSB. Thread-safe.
+ */
+public class ZipfianGenerator {
+
+    public static final double DEFAULT_THETA = 0.99;
+
+    private final long items;
+    private final double theta;
+    private final double alpha;
+    private final double zetaN;
+    private final double eta;
+    private final double halfPowTheta;
+
+    public ZipfianGenerator(long items) {
+        this(items, DEFAULT_THETA);
+    }
+
+    public ZipfianGenerator(long items, double theta) {
+        this.items = items;
+        this.theta = theta;
+        this.alpha = 1.0 / (1.0 - theta);
+        this.zetaN = zeta(items, theta);
+        double zeta2 = zeta(2, theta);
+        this.eta = (1 - Math.pow(2.0 / items, 1 - theta)) / (1 - zeta2 / zetaN);
+        this.halfPowTheta = 1 + Math.pow(0.5, theta);
+    }
+
+    public long next() {
+        double u = ThreadLocalRandom.current().nextDouble();
+        double uz = u * zetaN;
+        if (uz < 1.0) {
+            return 0;
+        }
+        if (uz < halfPowTheta) {
+            return 1;
+        }
+        return Math.min(items - 1, (long) (items * Math.pow(eta * u - eta + 1, alpha)));
+    }
+
+    public long items() {
+        return items;
+    }
+
+    public double theta() {
+        return theta;
+    }
+
+    private static double zeta(long n, double theta) {
+        double sum = 0;
+        for (long i = 1; i <= n; i++) {
+            sum += 1 / Math.pow(i, theta);
+        }
+        return sum;
+    }
+}
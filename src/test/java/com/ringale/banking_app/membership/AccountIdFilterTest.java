@@ -0,0 +1,185 @@
+package com.ringale.banking_app.membership;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import com.ringale.banking_app.repository.AccountRepository;
+import com.ringale.banking_app.repository.ArchivedAccountRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AccountIdFilter and LongBloomFilter.
+ */
+@ExtendWith(MockitoExtension.class)
+public class AccountIdFilterTest {
+    
+    @Mock
+    private AccountRepository accountRepository;
+    
+    @Mock
+    private ArchivedAccountRepository archivedAccountRepository;
+    
+    private AccountIdFilter filter() {
+        return new AccountIdFilter(accountRepository, archivedAccountRepository, new SimpleMeterRegistry(),
+                1000, 0.01, 2);
+    }
+    
+    // ========== BLOOM FILTER TESTS ==========
+    
+    @Test
+    void testNoFalseNegatives() {
+        // Given
+        LongBloomFilter bloom = new LongBloomFilter(10_000, 0.01);
+        
+        // When
+        for (long id = 1; id <= 10_000; id++) {
+            bloom.put(id);
+        }
+        
+        // Then
+        for (long id = 1; id <= 10_000; id++) {
+            assertTrue(bloom.mightContain(id));
+        }
+    }
+    
+    @Test
+    void testFalsePositiveRateNearTarget() {
+        // Given
+        LongBloomFilter bloom = new LongBloomFilter(100_000, 0.01);
+        for (long id = 1; id <= 100_000; id++) {
+            bloom.put(id);
+        }
+        
+        // When
+        int falsePositives = 0;
+        for (long id = 1_000_001; id <= 1_100_000; id++) {
+            if (bloom.mightContain(id)) {
+                falsePositives++;
+            }
+        }
+        
+        // Then
+        double observed = falsePositives / 100_000.0;
+        assertTrue(observed < 0.02, "observed fpp " + observed);
+        assertEquals(0.01, bloom.expectedFpp(), 0.005);
+        assertTrue(bloom.sizeInBytes() < 130_000);
+    }
+    
+    // ========== ACCOUNT ID FILTER TESTS ==========
+    
+    @Test
+    void testEverythingPassesBeforeBuild() {
+        // When & Then
+        assertTrue(filter().mightExist(42L));
+    }
+    
+    @Test
+    void testBuildPagesThroughIds() {
+        // Given
+        when(accountRepository.count()).thenReturn(3L);
+        when(accountRepository.findIdsAfter(0L, Limit.of(2))).thenReturn(List.of(1L, 2L));
+        when(accountRepository.findIdsAfter(2L, Limit.of(2))).thenReturn(List.of(5L));
+        AccountIdFilter filter = filter();
+        
+        // When
+        filter.build();
+        
+        // Then
+        assertTrue(filter.mightExist(1L));
+        assertTrue(filter.mightExist(2L));
+        assertTrue(filter.mightExist(5L));
+        verify(accountRepository, times(2)).findIdsAfter(anyLong(), any(Limit.class));
+    }
+    
+    @Test
+    void testBuildIncludesArchivedIds() {
+        // Given
+        when(accountRepository.findIdsAfter(0L, Limit.of(2))).thenReturn(List.of(1L));
+        when(archivedAccountRepository.findIdsAfter(0L, Limit.of(2))).thenReturn(List.of(900L));
+        AccountIdFilter filter = filter();
+        
+        // When
+        filter.build();
+        
+        // Then
+        assertTrue(filter.mightExist(1L));
+        assertTrue(filter.mightExist(900L));
+    }
+    
+    @Test
+    void testAddedIdsPassAfterBuild() {
+        // Given
+        when(accountRepository.count()).thenReturn(0L);
+        when(accountRepository.findIdsAfter(0L, Limit.of(2))).thenReturn(List.of());
+        AccountIdFilter filter = filter();
+        filter.build();
+        
+        // When
+        filter.add(7L);
+        
+        // Then
+        assertTrue(filter.mightExist(7L));
+    }
+    
+    @Test
+    void testUnknownIdRejectedOnlyAtOrBelowWatermark() {
+        // Given
+        when(accountRepository.findIdsAfter(0L, Limit.of(2))).thenReturn(List.of(1L, 2L)).thenReturn(List.of(1L, 2L));
+        when(accountRepository.findIdsAfter(2L, Limit.of(2))).thenReturn(List.of(4L)).thenReturn(List.of(4L));
+        AccountIdFilter filter = filter();
+        filter.build();
+        
+        // When
+        boolean beforeRefresh = filter.mightExist(3L);
+        filter.refresh();
+        
+        // Then
+        assertTrue(beforeRefresh);
+        assertFalse(filter.mightExist(3L));
+        assertTrue(filter.mightExist(5L));
+    }
+    
+    @Test
+    void testRefreshAddsIdsCreatedOnOtherNodes() {
+        // Given
+        when(accountRepository.findIdsAfter(0L, Limit.of(2))).thenReturn(List.of(1L)).thenReturn(List.of(1L));
+        AccountIdFilter filter = filter();
+        filter.build();
+        filter.refresh();
+        when(accountRepository.findIdsAfter(1L, Limit.of(2))).thenReturn(List.of(3L));
+        
+        // When
+        filter.refresh();
+        filter.refresh();
+        
+        // Then
+        assertTrue(filter.mightExist(3L));
+        assertFalse(filter.mightExist(2L));
+    }
+    
+    @Test
+    void testLateCommitBelowScannedIdIsNotMissed() {
+        // Given - ID 2 commits after ID 3 was already scanned
+        when(accountRepository.findIdsAfter(0L, Limit.of(2))).thenReturn(List.of(1L, 3L)).thenReturn(List.of(1L, 2L));
+        when(accountRepository.findIdsAfter(3L, Limit.of(2))).thenReturn(List.of());
+        when(accountRepository.findIdsAfter(2L, Limit.of(2))).thenReturn(List.of(3L));
+        AccountIdFilter filter = filter();
+        filter.build();
+        
+        // When
+        filter.refresh();
+        
+        // Then
+        assertTrue(filter.mightExist(2L));
+        assertTrue(filter.mightExist(3L));
+    }
+}
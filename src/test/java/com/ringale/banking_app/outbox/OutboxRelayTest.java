@@ -0,0 +1,120 @@
+package com.ringale.banking_app.outbox;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.ringale.banking_app.entity.AccountEventType;
+import com.ringale.banking_app.entity.OutboxEvent;
+import com.ringale.banking_app.repository.OutboxEventRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OutboxRelay.
+ */
+@ExtendWith(MockitoExtension.class)
+public class OutboxRelayTest {
+    
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+    
+    private List<OutboxEvent> published;
+    private OutboxRelay relay;
+    
+    @BeforeEach
+    void setUp() {
+        published = new ArrayList<>();
+    }
+    
+    @Test
+    void testDrainBatchPublishesInOrderAndMarksPublished() {
+        // Given
+        relay = new OutboxRelay(outboxEventRepository, published::add, TransactionOperations.withoutTransaction(), 10, 168);
+        List<OutboxEvent> batch = List.of(event(1L, 100L), event(2L, 200L), event(3L, 100L));
+        when(outboxEventRepository.claimUnpublished(any(Limit.class))).thenReturn(batch);
+        when(outboxEventRepository.findOldestUnpublishedId()).thenReturn(Optional.of(1L));
+        
+        // When
+        int count = relay.drainBatch();
+        
+        // Then
+        assertEquals(3, count);
+        assertEquals(batch, published);
+        verify(outboxEventRepository).markPublished(eq(List.of(1L, 2L, 3L)), any(LocalDateTime.class));
+    }
+    
+    @Test
+    void testDrainBatchHoldsBackLaterEventsOfFailedAccount() {
+        // Given
+        OutboxEventSink sink = event -> {
+            if (event.getId() == 1L) {
+                throw new IllegalStateException("sink unavailable");
+            }
+            published.add(event);
+        };
+        relay = new OutboxRelay(outboxEventRepository, sink, TransactionOperations.withoutTransaction(), 10, 168);
+        when(outboxEventRepository.claimUnpublished(any(Limit.class)))
+                .thenReturn(List.of(event(1L, 100L), event(2L, 200L), event(3L, 100L)));
+        when(outboxEventRepository.findOldestUnpublishedId()).thenReturn(Optional.of(1L));
+        
+        // When
+        int count = relay.drainBatch();
+        
+        // Then
+        assertEquals(1, count);
+        assertEquals(2L, published.get(0).getId());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(outboxEventRepository).markPublished(ids.capture(), any(LocalDateTime.class));
+        assertEquals(List.of(2L), ids.getValue());
+    }
+    
+    @Test
+    void testDrainBatchWithEmptyOutbox() {
+        // Given
+        relay = new OutboxRelay(outboxEventRepository, published::add, TransactionOperations.withoutTransaction(), 10, 168);
+        when(outboxEventRepository.claimUnpublished(any(Limit.class))).thenReturn(List.of());
+        
+        // When & Then
+        assertEquals(0, relay.drainBatch());
+        verify(outboxEventRepository, never()).markPublished(any(), any());
+    }
+    
+    @Test
+    void testDrainBatchBacksOffWhenOlderEventsAreClaimedElsewhere() {
+        // Given
+        relay = new OutboxRelay(outboxEventRepository, published::add, TransactionOperations.withoutTransaction(), 10, 168);
+        when(outboxEventRepository.claimUnpublished(any(Limit.class)))
+                .thenReturn(List.of(event(11L, 100L), event(12L, 200L)));
+        when(outboxEventRepository.findOldestUnpublishedId()).thenReturn(Optional.of(1L));
+        
+        // When & Then
+        assertEquals(0, relay.drainBatch());
+        assertTrue(published.isEmpty());
+        verify(outboxEventRepository, never()).markPublished(any(), any());
+    }
+    
+    private OutboxEvent event(Long id, Long accountId) {
+        OutboxEvent event = new OutboxEvent();
+        event.setId(id);
+        event.setAccountId(accountId);
+        event.setEventType(AccountEventType.DEPOSITED);
+        event.setAmount(10.0);
+        event.setBalance(100.0);
+        return event;
+    }
+}
@@ -0,0 +1,153 @@
+package com.ringale.banking_app.profiling;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import com.ringale.banking_app.dto.ProfilingStatusDto;
+import com.ringale.banking_app.exception.InsufficientBalanceException;
+import com.ringale.banking_app.exception.ProfilingStateException;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ProfilingRecorder and the custom JFR events.
+ */
+public class ProfilingRecorderTest {
+    
+    @TempDir
+    Path directory;
+    
+    private ProfilingRecorder recorder;
+    
+    @BeforeEach
+    void setUp() {
+        recorder = new ProfilingRecorder(60, 10, "default", directory.toString());
+    }
+    
+    @AfterEach
+    void tearDown() {
+        recorder.destroy();
+    }
+    
+    private static List<RecordedEvent> events(Path file, String name) throws Exception {
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .toList();
+    }
+    
+    // ========== RECORDING TESTS ==========
+    
+    @Test
+    void testStart_CapsDurationAtMaximum() {
+        // When
+        ProfilingStatusDto status = recorder.start(3600L);
+        
+        // Then
+        assertTrue(status.isRecording());
+        assertEquals(60, status.getDurationSeconds());
+        assertEquals("RUNNING", status.getState());
+    }
+    
+    @Test
+    void testStart_AlreadyRecording_Throws() {
+        // Given
+        recorder.start(null);
+        
+        // When & Then
+        assertThrows(ProfilingStateException.class, () -> recorder.start(null));
+    }
+    
+    @Test
+    void testStop_NotRecording_Throws() {
+        assertThrows(ProfilingStateException.class, () -> recorder.stop());
+        assertFalse(recorder.status().isRecording());
+    }
+    
+    @Test
+    void testStop_WritesCustomEvents() throws Exception {
+        // Given
+        recorder.start(null);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            AccountOperationEvent.begin("WITHDRAW", 42L);
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(),
+                    TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        HandledExceptionEvent.emit(new InsufficientBalanceException("Insufficient balance"), 400);
+        
+        // When
+        Path file = recorder.stop();
+        
+        // Then
+        assertTrue(Files.size(file) > 0);
+        assertFalse(recorder.status().isRecording());
+        
+        List<RecordedEvent> operations = events(file, "com.ringale.banking.AccountOperation");
+        assertEquals(1, operations.size());
+        assertEquals("WITHDRAW", operations.get(0).getString("operation"));
+        assertEquals(42L, operations.get(0).getLong("accountId"));
+        assertEquals("ROLLED_BACK", operations.get(0).getString("outcome"));
+        
+        List<RecordedEvent> exceptions = events(file, "com.ringale.banking.HandledException");
+        assertEquals(1, exceptions.size());
+        assertEquals(InsufficientBalanceException.class.getName(), exceptions.get(0).getString("exceptionType"));
+        assertEquals(400, exceptions.get(0).getInt("status"));
+    }
+    
+    @Test
+    void testStop_LeavesOutEnvironmentAndSystemProperties() throws Exception {
+        // Given
+        recorder = new ProfilingRecorder(60, 10, "profile", directory.toString());
+        recorder.start(null);
+        
+        // When
+        Path file = recorder.stop();
+        
+        // Then
+        assertTrue(events(file, "jdk.InitialEnvironmentVariable").isEmpty());
+        assertTrue(events(file, "jdk.InitialSystemProperty").isEmpty());
+        assertFalse(events(file, "jdk.JVMInformation").isEmpty());
+    }
+    
+    @Test
+    void testStop_WritesEachDumpToNewOwnerOnlyFile() throws Exception {
+        // Given
+        recorder.start(null);
+        Path first = recorder.stop();
+        recorder.start(null);
+        
+        // When
+        Path second = recorder.stop();
+        
+        // Then
+        assertNotEquals(first, second);
+        assertEquals(directory, second.getParent());
+        assertEquals(PosixFilePermissions.fromString("rw-------"), Files.getPosixFilePermissions(second));
+    }
+    
+    @Test
+    void testBegin_OutsideTransaction_DoesNothing() {
+        // Given
+        recorder.start(null);
+        
+        // When & Then
+        assertDoesNotThrow(() -> AccountOperationEvent.begin("GET", 1L));
+        assertFalse(TransactionSynchronizationManager.isSynchronizationActive());
+    }
+}
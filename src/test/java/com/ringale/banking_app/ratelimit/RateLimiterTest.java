@@ -0,0 +1,174 @@
+package com.ringale.banking_app.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.ringale.banking_app.dto.TransferRequest;
+import com.ringale.banking_app.exception.RateLimitExceededException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TokenBucketRateLimiter, TransferRateLimitAdvice and AdaptiveConcurrencyLimiter.
+ */
+public class RateLimiterTest {
+    
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    
+    // ========== TOKEN BUCKET TESTS ==========
+    
+    @Test
+    void testBurstThenReject() {
+        // Given
+        TokenBucketRateLimiter<String> limiter = new TokenBucketRateLimiter<>(10, 3, 100, clock::get);
+        
+        // When & Then
+        assertTrue(limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("a"));
+        assertFalse(limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("b"));
+    }
+    
+    @Test
+    void testRefillAfterEmissionInterval() {
+        // Given
+        TokenBucketRateLimiter<String> limiter = new TokenBucketRateLimiter<>(10, 1, 100, clock::get);
+        assertTrue(limiter.tryAcquire("a"));
+        assertFalse(limiter.tryAcquire("a"));
+        
+        // When
+        clock.addAndGet(100_000_000L);
+        
+        // Then
+        assertTrue(limiter.tryAcquire("a"));
+    }
+    
+    @Test
+    void testIdleBucketsAreEvicted() {
+        // Given
+        TokenBucketRateLimiter<String> limiter = new TokenBucketRateLimiter<>(10, 1, 100, clock::get);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+        
+        // When
+        clock.addAndGet(1_000_000_000L);
+        int evicted = limiter.evictIdle();
+        
+        // Then
+        assertEquals(2, evicted);
+        assertEquals(0, limiter.size());
+    }
+    
+    @Test
+    void testNewKeysRejectedWhenFullOfActiveBuckets() {
+        // Given
+        TokenBucketRateLimiter<String> limiter = new TokenBucketRateLimiter<>(1, 1, 2, clock::get);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+        
+        // When & Then
+        assertFalse(limiter.tryAcquire("c"));
+        assertEquals(2, limiter.size());
+    }
+    
+    // ========== TRANSFER ADVICE TESTS ==========
+    
+    @Test
+    void testTransferLimitedBySourceAccount() {
+        // Given
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(new SimpleMeterRegistry(), 100, 100, 1, 1, 100, Set.of());
+        TransferRateLimitAdvice advice = new TransferRateLimitAdvice(interceptor);
+        TransferRequest fromOne = new TransferRequest(1L, 2L, 10.0, null);
+        
+        // When
+        advice.afterBodyRead(fromOne, null, null, TransferRequest.class, null);
+        
+        // Then
+        assertThrows(RateLimitExceededException.class,
+                () -> advice.afterBodyRead(fromOne, null, null, TransferRequest.class, null));
+        assertDoesNotThrow(() -> advice.afterBodyRead(new TransferRequest(2L, 1L, 10.0, null),
+                null, null, TransferRequest.class, null));
+    }
+    
+    // ========== CLIENT IDENTITY TESTS ==========
+    
+    @Test
+    void testClientIdHeaderIgnoredFromUntrustedAddress() {
+        // Given
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(new SimpleMeterRegistry(), 1, 1, 100, 100, 100,
+                Set.of("10.0.0.1"));
+        
+        // When
+        interceptor.preHandle(request("192.168.1.5", "a"), null, null);
+        
+        // Then
+        assertThrows(RateLimitExceededException.class,
+                () -> interceptor.preHandle(request("192.168.1.5", "b"), null, null));
+    }
+    
+    @Test
+    void testClientIdHeaderHonoredFromTrustedProxy() {
+        // Given
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(new SimpleMeterRegistry(), 1, 1, 100, 100, 100,
+                Set.of("10.0.0.1"));
+        
+        // When
+        interceptor.preHandle(request("10.0.0.1", "a"), null, null);
+        
+        // Then
+        assertDoesNotThrow(() -> interceptor.preHandle(request("10.0.0.1", "b"), null, null));
+        assertThrows(RateLimitExceededException.class,
+                () -> interceptor.preHandle(request("10.0.0.1", "a"), null, null));
+    }
+    
+    private static MockHttpServletRequest request(String remoteAddr, String clientId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/api/accounts/transfers");
+        request.setRemoteAddr(remoteAddr);
+        request.addHeader(RateLimitInterceptor.CLIENT_ID_HEADER, clientId);
+        return request;
+    }
+    
+    // ========== ADAPTIVE CONCURRENCY TESTS ==========
+    
+    @Test
+    void testConcurrencyLimitRejectsAboveLimit() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 1_000_000L, 0.5, clock::get);
+        
+        // When & Then
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        limiter.release(10L);
+        assertTrue(limiter.tryAcquire());
+    }
+    
+    @Test
+    void testConcurrencyLimitAdaptsToLatency() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 10, 1_000_000L, 0.5, clock::get);
+        
+        // When - a full window of fast completions
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire();
+            limiter.release(10L);
+        }
+        
+        // Then
+        assertEquals(5, limiter.getLimit());
+        
+        // When - a slow completion
+        limiter.tryAcquire();
+        limiter.release(5_000_000L);
+        
+        // Then
+        assertEquals(2, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+}
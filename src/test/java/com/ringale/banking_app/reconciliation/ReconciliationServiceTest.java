@@ -0,0 +1,239 @@
+package com.ringale.banking_app.reconciliation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.ringale.banking_app.dto.MerkleTreeDto;
+import com.ringale.banking_app.dto.ReconciliationReportDto;
+import com.ringale.banking_app.exception.InvalidReconciliationRequestException;
+import com.ringale.banking_app.repository.AccountDigestRepository;
+import com.ringale.banking_app.repository.AccountRangeDigest;
+import com.ringale.banking_app.repository.AccountRowDigest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for MerkleTreeBuilder and ReconciliationService.
+ */
+@ExtendWith(MockitoExtension.class)
+public class ReconciliationServiceTest {
+    
+    private static final String PEER = "http://dr-banking:8080";
+    
+    @Mock
+    private ReconciliationPeerClient peerClient;
+    
+    private InMemoryDigestRepository localRows;
+    private InMemoryDigestRepository peerRows;
+    private MerkleTreeBuilder localBuilder;
+    private MerkleTreeBuilder peerBuilder;
+    private ReconciliationService service;
+    
+    @BeforeEach
+    void setUp() {
+        localRows = new InMemoryDigestRepository();
+        peerRows = new InMemoryDigestRepository();
+        for (long id = 1; id <= 10_000; id++) {
+            localRows.accounts.put(id, id * 7);
+            peerRows.accounts.put(id, id * 7);
+        }
+        localBuilder = new MerkleTreeBuilder(localRows, 4, 64, 100);
+        peerBuilder = new MerkleTreeBuilder(peerRows, 4, 64, 100);
+        service = new ReconciliationService(localBuilder, peerClient, List.of(PEER + "/"), 16, 10);
+        
+        lenient().when(peerClient.fetchMaxId(PEER)).thenAnswer(invocation -> peerBuilder.maxId());
+        lenient().when(peerClient.fetchTree(eq(PEER), anyLong(), anyLong(), anyInt()))
+                .thenAnswer(invocation -> peerBuilder.build(invocation.getArgument(1), invocation.getArgument(2),
+                        invocation.getArgument(3)));
+        lenient().when(peerClient.fetchRows(eq(PEER), anyLong(), anyLong()))
+                .thenAnswer(invocation -> peerBuilder.rowDigests(invocation.getArgument(1), invocation.getArgument(2)));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        localBuilder.destroy();
+        peerBuilder.destroy();
+    }
+    
+    // ========== MERKLE TREE TESTS ==========
+    
+    @Test
+    void testSplitCoversRangeWithoutGaps() {
+        // When
+        List<long[]> ranges = MerkleTreeBuilder.split(1, 10, 4);
+        
+        // Then
+        assertEquals(4, ranges.size());
+        assertArrayEquals(new long[] { 1, 3 }, ranges.get(0));
+        assertArrayEquals(new long[] { 10, 10 }, ranges.get(3));
+        assertEquals(3, MerkleTreeBuilder.split(5, 7, 16).size());
+    }
+    
+    @Test
+    void testEqualDataGivesEqualRoots() {
+        // When
+        MerkleTreeDto local = localBuilder.build(1, 10_000, 16);
+        MerkleTreeDto peer = peerBuilder.build(1, 10_000, 16);
+        
+        // Then
+        assertEquals(local.getRoot(), peer.getRoot());
+        assertEquals(16, local.getLeaves().size());
+        assertEquals(625, local.getLeaves().get(0).getCount());
+    }
+    
+    @Test
+    void testChangedRowChangesOnlyItsLeaf() {
+        // Given
+        peerRows.accounts.put(4_321L, 1L);
+        
+        // When
+        MerkleTreeDto local = localBuilder.build(1, 10_000, 16);
+        MerkleTreeDto peer = peerBuilder.build(1, 10_000, 16);
+        
+        // Then
+        assertNotEquals(local.getRoot(), peer.getRoot());
+        int differing = 0;
+        for (int i = 0; i < 16; i++) {
+            if (!local.getLeaves().get(i).getHash().equals(peer.getLeaves().get(i).getHash())) {
+                differing++;
+                assertTrue(local.getLeaves().get(i).getFromId() <= 4_321 && 4_321 <= local.getLeaves().get(i).getToId());
+            }
+        }
+        assertEquals(1, differing);
+    }
+    
+    @Test
+    void testArchivedRowsHashLikeHotRows() {
+        // Given
+        peerRows.archived.put(77L, peerRows.accounts.remove(77L));
+        
+        // When & Then
+        assertEquals(localBuilder.build(1, 10_000, 16).getRoot(), peerBuilder.build(1, 10_000, 16).getRoot());
+    }
+    
+    @Test
+    void testRowDigestsLimitedToMaxRowRange() {
+        // When & Then
+        assertEquals(100, localBuilder.rowDigests(1, 100).size());
+        assertThrows(InvalidReconciliationRequestException.class, () -> localBuilder.rowDigests(1, 101));
+    }
+    
+    // ========== COMPARE TESTS ==========
+    
+    @Test
+    void testCompareConsistentPeerNeedsOneTree() {
+        // When
+        ReconciliationReportDto report = service.compare(PEER, null, null, null);
+        
+        // Then
+        assertTrue(report.isConsistent());
+        assertEquals(10_000, report.getToId());
+        assertEquals(1, report.getTreesCompared());
+        assertEquals(0, report.getRowsCompared());
+    }
+    
+    @Test
+    void testCompareDrillsDownToDifferingRows() {
+        // Given
+        peerRows.accounts.put(4_321L, 1L);
+        peerRows.accounts.remove(9_000L);
+        peerRows.accounts.put(10_001L, 5L);
+        
+        // When
+        ReconciliationReportDto report = service.compare(PEER, null, null, null);
+        
+        // Then
+        assertFalse(report.isConsistent());
+        assertEquals(List.of(4_321L), report.getMismatched());
+        assertEquals(List.of(9_000L), report.getMissingOnPeer());
+        assertEquals(List.of(10_001L), report.getMissingLocally());
+        assertTrue(report.getRowsCompared() < 500, "rows compared " + report.getRowsCompared());
+    }
+    
+    @Test
+    void testCompareStopsAtMaxDifferences() {
+        // Given
+        for (long id = 1; id <= 50; id++) {
+            peerRows.accounts.put(id, 0L);
+        }
+        
+        // When
+        ReconciliationReportDto report = service.compare(PEER, null, null, null);
+        
+        // Then
+        assertTrue(report.isTruncated());
+        assertEquals(10, report.getMismatched().size());
+    }
+    
+    @Test
+    void testCompareRejectsUnconfiguredPeer() {
+        // When & Then
+        assertThrows(InvalidReconciliationRequestException.class,
+                () -> service.compare("http://attacker.example", null, null, null));
+        verifyNoInteractions(peerClient);
+    }
+    
+    /**
+     * Digest repository over in-memory row hashes, aggregating the way the queries do.
+     */
+    private static class InMemoryDigestRepository implements AccountDigestRepository {
+        
+        private final TreeMap<Long, Long> accounts = new TreeMap<>();
+        private final TreeMap<Long, Long> archived = new TreeMap<>();
+        
+        @Override
+        public AccountRangeDigest digestAccounts(long fromId, long toId) {
+            return digest(accounts.subMap(fromId, true, toId, true));
+        }
+        
+        @Override
+        public AccountRangeDigest digestArchivedAccounts(long fromId, long toId) {
+            return digest(archived.subMap(fromId, true, toId, true));
+        }
+        
+        @Override
+        public List<AccountRowDigest> findAccountRowDigests(long fromId, long toId) {
+            return rows(accounts.subMap(fromId, true, toId, true));
+        }
+        
+        @Override
+        public List<AccountRowDigest> findArchivedRowDigests(long fromId, long toId) {
+            return rows(archived.subMap(fromId, true, toId, true));
+        }
+        
+        @Override
+        public long findMaxAccountId() {
+            return accounts.isEmpty() ? 0 : accounts.lastKey();
+        }
+        
+        @Override
+        public long findMaxArchivedId() {
+            return archived.isEmpty() ? 0 : archived.lastKey();
+        }
+        
+        private static AccountRangeDigest digest(Map<Long, Long> rows) {
+            long checksum = 0;
+            for (long hash : rows.values()) {
+                checksum += hash;
+            }
+            return new AccountRangeDigest(rows.size(), checksum, 0);
+        }
+        
+        private static List<AccountRowDigest> rows(Map<Long, Long> rows) {
+            List<AccountRowDigest> digests = new ArrayList<>();
+            rows.forEach((id, hash) -> digests.add(new AccountRowDigest(id, hash)));
+            return digests;
+        }
+    }
+}
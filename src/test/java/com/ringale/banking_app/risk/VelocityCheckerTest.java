@@ -0,0 +1,193 @@
+package com.ringale.banking_app.risk;
+
+import org.junit.jupiter.api.Test;
+
+import com.ringale.banking_app.exception.VelocityLimitExceededException;
+import com.ringale.banking_app.risk.VelocityChecker.VelocityLimits;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for VelocityChecker and SlidingWindowCounter.
+ */
+public class VelocityCheckerTest {
+    
+    private final AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+    
+    private VelocityChecker checker(long maxPerMinute, long maxCentsPerMinute, long maxPerHour,
+            long maxCentsPerHour, int maxTracked) {
+        return new VelocityChecker(new SimpleMeterRegistry(),
+                new VelocityLimits(maxPerMinute, maxCentsPerMinute, maxPerHour, maxCentsPerHour),
+                maxTracked, clock::get);
+    }
+    
+    // ========== COUNT RULE TESTS ==========
+    
+    @Test
+    void testRejectsAfterMaxWithdrawalsPerMinute() {
+        // Given
+        VelocityChecker checker = checker(3, Long.MAX_VALUE, 100, Long.MAX_VALUE, 100);
+        
+        // When
+        checker.check(1L, 10.0);
+        checker.check(1L, 10.0);
+        checker.check(1L, 10.0);
+        
+        // Then
+        assertThrows(VelocityLimitExceededException.class, () -> checker.check(1L, 10.0));
+        assertDoesNotThrow(() -> checker.check(2L, 10.0));
+    }
+    
+    @Test
+    void testMinuteWindowSlides() {
+        // Given
+        VelocityChecker checker = checker(1, Long.MAX_VALUE, 100, Long.MAX_VALUE, 100);
+        checker.check(1L, 10.0);
+        assertThrows(VelocityLimitExceededException.class, () -> checker.check(1L, 10.0));
+        
+        // When
+        clock.addAndGet(61_000L);
+        
+        // Then
+        assertDoesNotThrow(() -> checker.check(1L, 10.0));
+    }
+    
+    @Test
+    void testHourlyCountSpansMinuteWindows() {
+        // Given
+        VelocityChecker checker = checker(10, Long.MAX_VALUE, 2, Long.MAX_VALUE, 100);
+        checker.check(1L, 10.0);
+        clock.addAndGet(120_000L);
+        checker.check(1L, 10.0);
+        clock.addAndGet(120_000L);
+        
+        // When & Then
+        assertThrows(VelocityLimitExceededException.class, () -> checker.check(1L, 10.0));
+    }
+    
+    // ========== AMOUNT RULE TESTS ==========
+    
+    @Test
+    void testRejectsWhenAmountPerMinuteExceeded() {
+        // Given
+        VelocityChecker checker = checker(100, 100_000, 100, Long.MAX_VALUE, 100);
+        checker.check(1L, 600.0);
+        
+        // When & Then
+        assertThrows(VelocityLimitExceededException.class, () -> checker.check(1L, 400.01));
+        assertDoesNotThrow(() -> checker.check(1L, 400.0));
+    }
+    
+    // ========== MEMORY BOUND TESTS ==========
+    
+    @Test
+    void testIdleAccountsAreEvicted() {
+        // Given
+        VelocityChecker checker = checker(10, Long.MAX_VALUE, 100, Long.MAX_VALUE, 100);
+        checker.check(1L, 10.0);
+        checker.check(2L, 10.0);
+        
+        // When
+        clock.addAndGet(3_600_001L);
+        checker.evictIdle();
+        
+        // Then
+        assertEquals(0, checker.trackedAccounts());
+    }
+    
+    @Test
+    void testEvictsLeastRecentlySeenWhenTrackingCapacityReached() {
+        // Given
+        VelocityChecker checker = checker(1, Long.MAX_VALUE, 100, Long.MAX_VALUE, 2);
+        checker.check(1L, 10.0);
+        clock.addAndGet(1_000L);
+        checker.check(2L, 10.0);
+        
+        // When
+        checker.check(3L, 10.0);
+        
+        // Then
+        assertThrows(VelocityLimitExceededException.class, () -> checker.check(3L, 10.0));
+        assertThrows(VelocityLimitExceededException.class, () -> checker.check(2L, 10.0));
+        assertEquals(2, checker.trackedAccounts());
+    }
+    
+    // ========== CONCURRENCY TESTS ==========
+    
+    @Test
+    void testConcurrentWithdrawalsCannotExceedLimit() throws InterruptedException {
+        // Given
+        VelocityChecker checker = checker(10, Long.MAX_VALUE, 100, Long.MAX_VALUE, 100);
+        AtomicLong allowed = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[8];
+        
+        // When
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int j = 0; j < 100; j++) {
+                    try {
+                        checker.check(1L, 10.0);
+                        allowed.incrementAndGet();
+                    } catch (VelocityLimitExceededException e) {
+                        // expected once the allowance is used up
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        
+        // Then
+        assertEquals(10, allowed.get());
+    }
+    
+    @Test
+    void testRejectedWithdrawalIsRolledBack() {
+        // Given
+        VelocityChecker checker = checker(100, 100_000, 100, Long.MAX_VALUE, 100);
+        checker.check(1L, 900.0);
+        assertThrows(VelocityLimitExceededException.class, () -> checker.check(1L, 500.0));
+        
+        // When & Then
+        assertDoesNotThrow(() -> checker.check(1L, 100.0));
+    }
+    
+    @Test
+    void testCounterIsExactUnderContention() throws InterruptedException {
+        // Given
+        SlidingWindowCounter counter = new SlidingWindowCounter(60_000L, 12);
+        long now = clock.get();
+        Thread[] threads = new Thread[8];
+        
+        // When
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    counter.add(now, 5);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        
+        // Then
+        assertEquals(80_000, counter.count(now));
+        assertEquals(400_000, counter.amountCents(now));
+    }
+}
@@ -7,15 +7,28 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.ringale.banking_app.archive.AccountArchiver;
 import com.ringale.banking_app.dto.AccountDto;
+import com.ringale.banking_app.dto.AccountLookupDto;
+import com.ringale.banking_app.dto.TransferDto;
 import com.ringale.banking_app.entity.Account;
+import com.ringale.banking_app.entity.AccountEventType;
 import com.ringale.banking_app.exception.AccountNotFoundException;
+import com.ringale.banking_app.exception.CurrencyMismatchException;
 import com.ringale.banking_app.exception.InsufficientBalanceException;
 import com.ringale.banking_app.exception.InvalidAccountException;
+import com.ringale.banking_app.exception.VelocityLimitExceededException;
+import com.ringale.banking_app.fx.FxConversion;
+import com.ringale.banking_app.fx.FxRateCache;
 import com.ringale.banking_app.mapper.AccountMapper;
+import com.ringale.banking_app.membership.AccountIdFilter;
+import com.ringale.banking_app.outbox.AccountEventRecorder;
 import com.ringale.banking_app.repository.AccountRepository;
+import com.ringale.banking_app.risk.VelocityChecker;
 import com.ringale.banking_app.service.impl.AccountServiceImpl;
 
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -31,6 +44,21 @@ public class AccountServiceTest {
     @Mock
     private AccountRepository accountRepository;
     
+    @Mock
+    private AccountEventRecorder accountEventRecorder;
+    
+    @Mock
+    private VelocityChecker velocityChecker;
+    
+    @Mock
+    private FxRateCache fxRateCache;
+    
+    @Mock
+    private AccountIdFilter accountIdFilter;
+    
+    @Mock
+    private AccountArchiver accountArchiver;
+    
     @InjectMocks
     private AccountServiceImpl accountService;
     
@@ -48,6 +76,8 @@ public class AccountServiceTest {
         accountDto.setId(1L);
         accountDto.setAccountOwner("John Doe");
         accountDto.setBalance(1000.0);
+        
+        lenient().when(accountIdFilter.mightExist(anyLong())).thenReturn(true);
     }
     
     // ========== CREATE ACCOUNT TESTS ==========
@@ -65,6 +95,8 @@ public class AccountServiceTest {
         assertEquals("John Doe", result.getAccountOwner());
         assertEquals(1000.0, result.getBalance());
         verify(accountRepository, times(1)).save(any(Account.class));
+        verify(accountEventRecorder, times(1)).record(account, AccountEventType.ACCOUNT_CREATED, 1000.0);
+        verify(accountIdFilter, times(1)).add(1L);
     }
     
     @Test
@@ -118,6 +150,31 @@ public class AccountServiceTest {
         
         // When & Then
         assertThrows(AccountNotFoundException.class, () -> accountService.getAccountById(999L));
+        verify(accountIdFilter, times(1)).recordFalsePositive();
+    }
+    
+    @Test
+    void testGetAccountByIdRehydratesArchivedAccount() {
+        // Given
+        when(accountRepository.findById(1L)).thenReturn(Optional.empty());
+        when(accountArchiver.rehydrateInNewTransaction(1L)).thenReturn(Optional.of(account));
+        
+        // When
+        AccountDto result = accountService.getAccountById(1L);
+        
+        // Then
+        assertEquals(1000.0, result.getBalance());
+        verify(accountIdFilter, never()).recordFalsePositive();
+    }
+    
+    @Test
+    void testGetAccountByIdRejectedByFilter() {
+        // Given
+        when(accountIdFilter.mightExist(999L)).thenReturn(false);
+        
+        // When & Then
+        assertThrows(AccountNotFoundException.class, () -> accountService.getAccountById(999L));
+        verifyNoInteractions(accountRepository);
     }
     
     @Test
@@ -127,12 +184,94 @@ public class AccountServiceTest {
         assertThrows(InvalidAccountException.class, () -> accountService.getAccountById(0L));
     }
     
+    @Test
+    void testGetAccountVersion() {
+        // Given
+        when(accountRepository.findVersionById(1L)).thenReturn(Optional.of(3L));
+        
+        // When & Then
+        assertEquals(Optional.of(3L), accountService.getAccountVersion(1L));
+        verify(accountRepository, never()).findById(anyLong());
+    }
+    
+    @Test
+    void testGetAccountVersionRejectedByFilter() {
+        // Given
+        when(accountIdFilter.mightExist(999L)).thenReturn(false);
+        
+        // When & Then
+        assertEquals(Optional.empty(), accountService.getAccountVersion(999L));
+        verifyNoInteractions(accountRepository);
+    }
+    
+    // ========== LOOKUP ACCOUNTS TESTS ==========
+    
+    @Test
+    void testLookupAccountsReturnsFoundAndMissing() {
+        // Given
+        when(accountRepository.findAllById(List.of(1L, 999L))).thenReturn(List.of(account));
+        
+        // When
+        AccountLookupDto result = accountService.lookupAccounts(List.of(1L, 999L, 1L));
+        
+        // Then
+        assertEquals(1, result.getAccounts().size());
+        assertEquals("John Doe", result.getAccounts().get(1L).getAccountOwner());
+        assertEquals(List.of(999L), result.getNotFound());
+    }
+    
+    @Test
+    void testLookupAccountsQueriesInChunks() {
+        // Given
+        List<Long> ids = new java.util.ArrayList<>();
+        for (long id = 1; id <= 1200; id++) {
+            ids.add(id);
+        }
+        when(accountRepository.findAllById(any())).thenReturn(List.of());
+        
+        // When
+        AccountLookupDto result = accountService.lookupAccounts(ids);
+        
+        // Then
+        verify(accountRepository, times(3)).findAllById(any());
+        assertEquals(1200, result.getNotFound().size());
+    }
+    
+    @Test
+    void testLookupAccountsRehydratesArchivedAccounts() {
+        // Given
+        when(accountRepository.findAllById(List.of(1L, 999L))).thenReturn(List.of());
+        when(accountArchiver.findArchivedIds(List.of(1L, 999L))).thenReturn(List.of(1L));
+        when(accountArchiver.rehydrateInNewTransaction(1L)).thenReturn(Optional.of(account));
+        
+        // When
+        AccountLookupDto result = accountService.lookupAccounts(List.of(1L, 999L));
+        
+        // Then
+        assertEquals("John Doe", result.getAccounts().get(1L).getAccountOwner());
+        assertEquals(List.of(999L), result.getNotFound());
+    }
+    
+    @Test
+    void testLookupAccountsSkipsIdsRejectedByFilter() {
+        // Given
+        when(accountIdFilter.mightExist(999L)).thenReturn(false);
+        when(accountRepository.findAllById(List.of(1L))).thenReturn(List.of(account));
+        
+        // When
+        AccountLookupDto result = accountService.lookupAccounts(List.of(999L, 1L));
+        
+        // Then
+        assertEquals(1, result.getAccounts().size());
+        assertEquals(List.of(999L), result.getNotFound());
+    }
+    
     // ========== DEPOSIT AMOUNT TESTS ==========
     
     @Test
     void testDepositAmountSuccess() {
         // Given
-        when(accountRepository.findById(1L)).thenReturn(Optional.of(account));
+        when(accountRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(account));
         when(accountRepository.save(any(Account.class))).thenReturn(account);
         
         // When
@@ -140,8 +279,9 @@ public class AccountServiceTest {
         
         // Then
         assertNotNull(result);
-        verify(accountRepository, times(1)).findById(1L);
+        verify(accountRepository, times(1)).findByIdForUpdate(1L);
         verify(accountRepository, times(1)).save(any(Account.class));
+        verify(accountEventRecorder, times(1)).record(account, AccountEventType.DEPOSITED, 500.0);
     }
     
     @Test
@@ -159,18 +299,44 @@ public class AccountServiceTest {
     @Test
     void testDepositAmountAccountNotFound() {
         // Given
-        when(accountRepository.findById(999L)).thenReturn(Optional.empty());
+        when(accountRepository.findByIdForUpdate(999L)).thenReturn(Optional.empty());
         
         // When & Then
         assertThrows(AccountNotFoundException.class, () -> accountService.depositAmount(999L, 500.0));
     }
     
+    @Test
+    void testDepositAmountRehydratesArchivedAccount() {
+        // Given
+        when(accountRepository.findByIdForUpdate(1L)).thenReturn(Optional.empty());
+        when(accountArchiver.rehydrate(1L)).thenReturn(Optional.of(account));
+        when(accountRepository.save(any(Account.class))).thenReturn(account);
+        
+        // When
+        AccountDto result = accountService.depositAmount(1L, 500.0);
+        
+        // Then
+        assertEquals(1500.0, result.getBalance());
+        verify(accountEventRecorder, times(1)).record(account, AccountEventType.DEPOSITED, 500.0);
+    }
+    
+    @Test
+    void testDepositAmountCurrencyMismatch() {
+        // Given
+        when(accountRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(account));
+        
+        // When & Then
+        assertThrows(CurrencyMismatchException.class, () -> accountService.depositAmount(1L, 500.0, "EUR"));
+        verify(accountRepository, never()).save(any(Account.class));
+    }
+    
     // ========== WITHDRAW AMOUNT TESTS ==========
     
     @Test
     void testWithdrawAmountSuccess() {
         // Given
-        when(accountRepository.findById(1L)).thenReturn(Optional.of(account));
+        when(accountRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(account));
+        when(fxRateCache.toBaseCurrency(500.0, "USD")).thenReturn(500.0);
         when(accountRepository.save(any(Account.class))).thenReturn(account);
         
         // When
@@ -178,17 +344,72 @@ public class AccountServiceTest {
         
         // Then
         assertNotNull(result);
-        verify(accountRepository, times(1)).findById(1L);
+        verify(accountRepository, times(1)).findByIdForUpdate(1L);
         verify(accountRepository, times(1)).save(any(Account.class));
+        verify(accountEventRecorder, times(1)).record(account, AccountEventType.WITHDRAWN, 500.0);
+        verify(velocityChecker, times(1)).check(1L, 500.0);
+    }
+    
+    @Test
+    void testWithdrawAmountRejectedByVelocityCheck() {
+        // Given
+        when(accountRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(account));
+        when(fxRateCache.toBaseCurrency(500.0, "USD")).thenReturn(500.0);
+        doThrow(new VelocityLimitExceededException("Too many withdrawals in the last minute"))
+                .when(velocityChecker).check(1L, 500.0);
+        
+        // When & Then
+        assertThrows(VelocityLimitExceededException.class, () -> accountService.withDrawAmount(1L, 500.0));
+        verify(accountRepository, never()).save(any(Account.class));
+        verifyNoInteractions(accountEventRecorder);
+    }
+    
+    @Test
+    void testWithdrawAmountVelocityCheckedInBaseCurrency() {
+        // Given
+        account.setCurrency("JPY");
+        account.setBalance(100000.0);
+        when(accountRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(account));
+        when(fxRateCache.toBaseCurrency(1000.0, "JPY")).thenReturn(6.7);
+        when(accountRepository.save(any(Account.class))).thenReturn(account);
+        
+        // When
+        accountService.withDrawAmount(1L, 1000.0);
+        
+        // Then
+        verify(velocityChecker, times(1)).check(1L, 6.7);
+    }
+    
+    @Test
+    void testWithdrawAmountRejectedByFilterSkipsVelocityCheck() {
+        // Given
+        when(accountIdFilter.mightExist(999L)).thenReturn(false);
+        
+        // When & Then
+        assertThrows(AccountNotFoundException.class, () -> accountService.withDrawAmount(999L, 500.0));
+        verifyNoInteractions(velocityChecker);
+        verifyNoInteractions(accountRepository);
     }
     
     @Test
     void testWithdrawAmountWithInsufficientBalance() {
         // Given
-        when(accountRepository.findById(1L)).thenReturn(Optional.of(account));
+        when(accountRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(account));
         
         // When & Then
         assertThrows(InsufficientBalanceException.class, () -> accountService.withDrawAmount(1L, 2000.0));
+        verifyNoInteractions(accountEventRecorder);
+    }
+    
+    @Test
+    void testWithdrawAmountExceedingAvailableBalance() {
+        // Given
+        account.setHeldBalance(600.0);
+        when(accountRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(account));
+        
+        // When & Then
+        assertThrows(InsufficientBalanceException.class, () -> accountService.withDrawAmount(1L, 500.0));
+        verify(accountRepository, never()).save(any(Account.class));
     }
     
     @Test
@@ -206,9 +427,86 @@ public class AccountServiceTest {
     @Test
     void testWithdrawAmountAccountNotFound() {
         // Given
-        when(accountRepository.findById(999L)).thenReturn(Optional.empty());
+        when(accountRepository.findByIdForUpdate(999L)).thenReturn(Optional.empty());
         
         // When & Then
         assertThrows(AccountNotFoundException.class, () -> accountService.withDrawAmount(999L, 500.0));
     }
+    
+    // ========== TRANSFER TESTS ==========
+    
+    @Test
+    void testTransferConvertsToTargetCurrency() {
+        // Given
+        Account target = new Account();
+        target.setId(2L);
+        target.setAccountOwner("Jane Doe");
+        target.setCurrency("EUR");
+        target.setBalance(50.0);
+        when(accountRepository.findAllByIdForUpdate(List.of(1L, 2L))).thenReturn(List.of(account, target));
+        when(fxRateCache.convert(100.0, "USD", "EUR")).thenReturn(new FxConversion(new BigDecimal("0.92"), 92.0));
+        when(fxRateCache.toBaseCurrency(100.0, "USD")).thenReturn(100.0);
+        when(accountRepository.save(any(Account.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // When
+        TransferDto result = accountService.transfer(1L, 2L, 100.0, "USD");
+        
+        // Then
+        assertEquals(900.0, result.getFromAccount().getBalance());
+        assertEquals(142.0, result.getToAccount().getBalance());
+        assertEquals("EUR", result.getToAccount().getCurrency());
+        assertEquals(92.0, result.getCreditedAmount());
+        verify(velocityChecker, times(1)).check(1L, 100.0);
+        verify(accountEventRecorder, times(1)).record(account, AccountEventType.TRANSFERRED_OUT, 100.0);
+        verify(accountEventRecorder, times(1)).record(target, AccountEventType.TRANSFERRED_IN, 92.0);
+    }
+    
+    @Test
+    void testTransferWithInsufficientBalance() {
+        // Given
+        Account target = new Account();
+        target.setId(2L);
+        when(accountRepository.findAllByIdForUpdate(List.of(1L, 2L))).thenReturn(List.of(account, target));
+        
+        // When & Then
+        assertThrows(InsufficientBalanceException.class, () -> accountService.transfer(1L, 2L, 2000.0, null));
+        verify(fxRateCache, never()).convert(anyDouble(), anyString(), anyString());
+        verify(accountRepository, never()).save(any(Account.class));
+    }
+    
+    @Test
+    void testTransferToSameAccount() {
+        // When & Then
+        assertThrows(InvalidAccountException.class, () -> accountService.transfer(1L, 1L, 100.0, null));
+        verifyNoInteractions(accountRepository);
+    }
+    
+    @Test
+    void testTransferRehydratesArchivedTarget() {
+        // Given
+        Account target = new Account();
+        target.setId(2L);
+        target.setBalance(50.0);
+        when(accountRepository.findAllByIdForUpdate(List.of(1L, 2L))).thenReturn(List.of(account));
+        when(accountArchiver.rehydrate(2L)).thenReturn(Optional.of(target));
+        when(fxRateCache.convert(100.0, "USD", "USD")).thenReturn(new FxConversion(BigDecimal.ONE, 100.0));
+        when(accountRepository.save(any(Account.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // When
+        TransferDto result = accountService.transfer(1L, 2L, 100.0, null);
+        
+        // Then
+        assertEquals(150.0, result.getToAccount().getBalance());
+        verify(accountArchiver, never()).rehydrate(1L);
+    }
+    
+    @Test
+    void testTransferTargetNotFound() {
+        // Given
+        when(accountRepository.findAllByIdForUpdate(List.of(1L, 2L))).thenReturn(List.of(account));
+        
+        // When & Then
+        assertThrows(AccountNotFoundException.class, () -> accountService.transfer(1L, 2L, 100.0, null));
+        verifyNoInteractions(accountEventRecorder);
+    }
 }
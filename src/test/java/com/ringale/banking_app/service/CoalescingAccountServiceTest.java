@@ -0,0 +1,171 @@
+package com.ringale.banking_app.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.ringale.banking_app.dto.AccountDto;
+import com.ringale.banking_app.exception.AccountNotFoundException;
+import com.ringale.banking_app.loadgen.ZipfianGenerator;
+import com.ringale.banking_app.service.impl.CoalescingAccountService;
+import com.ringale.banking_app.stream.BalanceChangedEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CoalescingAccountService, including a Zipfian load comparison
+ * of delegate (database) calls with and without coalescing.
+ */
+@ExtendWith(MockitoExtension.class)
+public class CoalescingAccountServiceTest {
+    
+    private static final int THREADS = 64;
+    private static final int READS_PER_THREAD = 100;
+    private static final long QUERY_MILLIS = 2;
+    
+    @Mock
+    private AccountService delegate;
+    
+    // ========== COALESCING TESTS ==========
+    
+    @Test
+    void testConcurrentReadsShareOneQuery() throws Exception {
+        // Given
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getAccountById(1L)).thenAnswer(invocation -> {
+            queryStarted.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new AccountDto(1L, "John Doe", 1000.0);
+        });
+        CoalescingAccountService service = new CoalescingAccountService(delegate, new SimpleMeterRegistry());
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        
+        // When
+        Future<AccountDto> leader = executor.submit(() -> service.getAccountById(1L));
+        queryStarted.await(5, TimeUnit.SECONDS);
+        Future<AccountDto> follower = executor.submit(() -> service.getAccountById(1L));
+        Thread.sleep(50);
+        release.countDown();
+        
+        // Then
+        assertSame(leader.get(5, TimeUnit.SECONDS), follower.get(5, TimeUnit.SECONDS));
+        verify(delegate, times(1)).getAccountById(1L);
+        executor.shutdown();
+    }
+    
+    @Test
+    void testCompletedReadsAreNotCached() {
+        // Given
+        when(delegate.getAccountById(1L)).thenReturn(new AccountDto(1L, "John Doe", 1000.0));
+        CoalescingAccountService service = new CoalescingAccountService(delegate, new SimpleMeterRegistry());
+        
+        // When
+        service.getAccountById(1L);
+        service.getAccountById(1L);
+        
+        // Then
+        verify(delegate, times(2)).getAccountById(1L);
+    }
+    
+    @Test
+    void testFailureIsRethrownAndNotRetained() {
+        // Given
+        when(delegate.getAccountById(999L)).thenThrow(new AccountNotFoundException("Account not found with ID: 999"));
+        CoalescingAccountService service = new CoalescingAccountService(delegate, new SimpleMeterRegistry());
+        
+        // When & Then
+        assertThrows(AccountNotFoundException.class, () -> service.getAccountById(999L));
+        assertThrows(AccountNotFoundException.class, () -> service.getAccountById(999L));
+        verify(delegate, times(2)).getAccountById(999L);
+    }
+    
+    @Test
+    void testCommittedChangeStartsFreshQuery() throws Exception {
+        // Given
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        when(delegate.getAccountById(1L)).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                queryStarted.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return new AccountDto(1L, "John Doe", 1000.0);
+            }
+            return new AccountDto(1L, "John Doe", 1500.0);
+        });
+        CoalescingAccountService service = new CoalescingAccountService(delegate, new SimpleMeterRegistry());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<AccountDto> stale = executor.submit(() -> service.getAccountById(1L));
+        queryStarted.await(5, TimeUnit.SECONDS);
+        
+        // When
+        service.onBalanceChanged(new BalanceChangedEvent(10L, 1L, 1500.0));
+        AccountDto fresh = service.getAccountById(1L);
+        release.countDown();
+        
+        // Then
+        assertEquals(1500.0, fresh.getBalance());
+        assertEquals(1000.0, stale.get(5, TimeUnit.SECONDS).getBalance());
+        executor.shutdown();
+    }
+    
+    // ========== ZIPFIAN LOAD TESTS ==========
+    
+    @Test
+    void testCoalescingReducesQueriesUnderZipfianLoad() throws Exception {
+        // Given
+        AtomicInteger queries = new AtomicInteger();
+        when(delegate.getAccountById(anyLong())).thenAnswer(invocation -> {
+            queries.incrementAndGet();
+            Thread.sleep(QUERY_MILLIS);
+            return new AccountDto(invocation.getArgument(0), "Owner", 100.0);
+        });
+        ZipfianGenerator keys = new ZipfianGenerator(1000);
+        
+        // When
+        runLoad(delegate, keys);
+        int directQueries = queries.getAndSet(0);
+        runLoad(new CoalescingAccountService(delegate, new SimpleMeterRegistry()), keys);
+        int coalescedQueries = queries.get();
+        
+        // Then
+        assertEquals(THREADS * READS_PER_THREAD, directQueries);
+        assertTrue(coalescedQueries < directQueries * 0.8,
+                "coalesced " + coalescedQueries + " of " + directQueries);
+    }
+    
+    private void runLoad(AccountService service, ZipfianGenerator keys) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            workers.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < READS_PER_THREAD; i++) {
+                    service.getAccountById(keys.next() + 1);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+}
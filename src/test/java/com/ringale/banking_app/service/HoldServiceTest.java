@@ -0,0 +1,220 @@
+package com.ringale.banking_app.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.ringale.banking_app.archive.AccountArchiver;
+import com.ringale.banking_app.dto.HoldDto;
+import com.ringale.banking_app.entity.Account;
+import com.ringale.banking_app.entity.AccountEventType;
+import com.ringale.banking_app.entity.FundHold;
+import com.ringale.banking_app.entity.HoldStatus;
+import com.ringale.banking_app.exception.HoldNotFoundException;
+import com.ringale.banking_app.exception.InsufficientBalanceException;
+import com.ringale.banking_app.exception.InvalidAccountException;
+import com.ringale.banking_app.exception.InvalidHoldStateException;
+import com.ringale.banking_app.hold.HoldExpiryScheduler;
+import com.ringale.banking_app.outbox.AccountEventRecorder;
+import com.ringale.banking_app.repository.AccountRepository;
+import com.ringale.banking_app.repository.FundHoldRepository;
+import com.ringale.banking_app.service.impl.HoldServiceImpl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for HoldService implementation.
+ */
+@ExtendWith(MockitoExtension.class)
+public class HoldServiceTest {
+    
+    @Mock
+    private AccountRepository accountRepository;
+    
+    @Mock
+    private FundHoldRepository fundHoldRepository;
+    
+    @Mock
+    private AccountEventRecorder accountEventRecorder;
+    
+    @Mock
+    private HoldExpiryScheduler holdExpiryScheduler;
+    
+    @Mock
+    private AccountArchiver accountArchiver;
+    
+    private HoldServiceImpl holdService;
+    private Account account;
+    private FundHold hold;
+    
+    @BeforeEach
+    void setUp() {
+        holdService = new HoldServiceImpl(accountRepository, fundHoldRepository, accountEventRecorder,
+                holdExpiryScheduler, accountArchiver, 600, 3600);
+        
+        account = new Account();
+        account.setId(1L);
+        account.setAccountOwner("John Doe");
+        account.setBalance(1000.0);
+        account.setHeldBalance(300.0);
+        
+        hold = new FundHold();
+        hold.setId(10L);
+        hold.setAccountId(1L);
+        hold.setAmount(300.0);
+        hold.setStatus(HoldStatus.ACTIVE);
+        hold.setExpiresAt(LocalDateTime.now().plusMinutes(5));
+    }
+    
+    // ========== PLACE HOLD TESTS ==========
+    
+    @Test
+    void testPlaceHoldSuccess() {
+        // Given
+        when(accountRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(account));
+        when(accountRepository.save(any(Account.class))).thenReturn(account);
+        when(fundHoldRepository.save(any(FundHold.class))).thenAnswer(invocation -> {
+            FundHold saved = invocation.getArgument(0);
+            saved.setId(11L);
+            return saved;
+        });
+        
+        // When
+        HoldDto result = holdService.placeHold(1L, 200.0, null);
+        
+        // Then
+        assertEquals(11L, result.getId());
+        assertEquals(HoldStatus.ACTIVE, result.getStatus());
+        assertEquals(500.0, account.getHeldBalance());
+        verify(holdExpiryScheduler).schedule(eq(11L), any(LocalDateTime.class));
+        verify(accountEventRecorder).record(account, AccountEventType.HOLD_PLACED, 200.0);
+    }
+    
+    @Test
+    void testPlaceHoldRehydratesArchivedAccount() {
+        // Given
+        account.setHeldBalance(0);
+        when(accountRepository.findByIdForUpdate(1L)).thenReturn(Optional.empty());
+        when(accountArchiver.rehydrate(1L)).thenReturn(Optional.of(account));
+        when(accountRepository.save(any(Account.class))).thenReturn(account);
+        when(fundHoldRepository.save(any(FundHold.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // When
+        holdService.placeHold(1L, 200.0, null);
+        
+        // Then
+        assertEquals(200.0, account.getHeldBalance());
+    }
+    
+    @Test
+    void testPlaceHoldExceedingAvailableBalance() {
+        // Given
+        when(accountRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(account));
+        
+        // When & Then
+        assertThrows(InsufficientBalanceException.class, () -> holdService.placeHold(1L, 800.0, null));
+        verifyNoInteractions(fundHoldRepository, holdExpiryScheduler);
+    }
+    
+    @Test
+    void testPlaceHoldWithTtlAboveMaximum() {
+        // When & Then
+        assertThrows(InvalidAccountException.class, () -> holdService.placeHold(1L, 100.0, 7200L));
+    }
+    
+    // ========== CAPTURE HOLD TESTS ==========
+    
+    @Test
+    void testPartialCaptureDebitsCapturedAmountAndReleasesRest() {
+        // Given
+        when(fundHoldRepository.findByIdForUpdate(10L)).thenReturn(Optional.of(hold));
+        when(accountRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(account));
+        when(accountRepository.save(any(Account.class))).thenReturn(account);
+        when(fundHoldRepository.save(hold)).thenReturn(hold);
+        
+        // When
+        HoldDto result = holdService.captureHold(1L, 10L, 250.0);
+        
+        // Then
+        assertEquals(HoldStatus.CAPTURED, result.getStatus());
+        assertEquals(250.0, result.getCapturedAmount());
+        assertEquals(750.0, account.getBalance());
+        assertEquals(0.0, account.getHeldBalance());
+    }
+    
+    @Test
+    void testCaptureExpiredHold() {
+        // Given
+        hold.setExpiresAt(LocalDateTime.now().minusSeconds(1));
+        when(fundHoldRepository.findByIdForUpdate(10L)).thenReturn(Optional.of(hold));
+        
+        // When & Then
+        assertThrows(InvalidHoldStateException.class, () -> holdService.captureHold(1L, 10L, null));
+    }
+    
+    @Test
+    void testCaptureHoldOfAnotherAccount() {
+        // Given
+        when(fundHoldRepository.findByIdForUpdate(10L)).thenReturn(Optional.of(hold));
+        
+        // When & Then
+        assertThrows(HoldNotFoundException.class, () -> holdService.captureHold(2L, 10L, null));
+    }
+    
+    // ========== RELEASE HOLD TESTS ==========
+    
+    @Test
+    void testReleaseHoldSuccess() {
+        // Given
+        when(fundHoldRepository.findByIdForUpdate(10L)).thenReturn(Optional.of(hold));
+        when(accountRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(account));
+        when(accountRepository.save(any(Account.class))).thenReturn(account);
+        when(fundHoldRepository.save(hold)).thenReturn(hold);
+        
+        // When
+        HoldDto result = holdService.releaseHold(1L, 10L);
+        
+        // Then
+        assertEquals(HoldStatus.RELEASED, result.getStatus());
+        assertEquals(1000.0, account.getBalance());
+        assertEquals(0.0, account.getHeldBalance());
+    }
+    
+    @Test
+    void testReleaseAlreadyCapturedHold() {
+        // Given
+        hold.setStatus(HoldStatus.CAPTURED);
+        when(fundHoldRepository.findByIdForUpdate(10L)).thenReturn(Optional.of(hold));
+        
+        // When & Then
+        assertThrows(InvalidHoldStateException.class, () -> holdService.releaseHold(1L, 10L));
+    }
+    
+    // ========== EXPIRE HOLDS TESTS ==========
+    
+    @Test
+    void testExpireHoldsReleasesHeldFundsPerAccount() {
+        // Given
+        when(fundHoldRepository.findExpiredForUpdate(eq(List.of(10L, 12L)), eq(HoldStatus.ACTIVE),
+                any(LocalDateTime.class))).thenReturn(List.of(hold));
+        when(accountRepository.findAllByIdForUpdate(any())).thenReturn(List.of(account));
+        
+        // When
+        int expired = holdService.expireHolds(List.of(10L, 12L));
+        
+        // Then
+        assertEquals(1, expired);
+        assertEquals(HoldStatus.EXPIRED, hold.getStatus());
+        assertEquals(0.0, account.getHeldBalance());
+        verify(accountEventRecorder).record(account, AccountEventType.HOLD_EXPIRED, 300.0);
+    }
+}
@@ -0,0 +1,126 @@
+package com.ringale.banking_app.stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import com.ringale.banking_app.entity.AccountEventType;
+import com.ringale.banking_app.entity.OutboxEvent;
+import com.ringale.banking_app.repository.OutboxEventRepository;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BalanceChangeFeed.
+ */
+@ExtendWith(MockitoExtension.class)
+public class BalanceChangeFeedTest {
+    
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+    
+    @Mock
+    private BalanceStreamHub balanceStreamHub;
+    
+    private BalanceChangeFeed feed;
+    
+    @BeforeEach
+    void setUp() {
+        feed = new BalanceChangeFeed(outboxEventRepository, balanceStreamHub, 10, 60000, 100);
+        lenient().when(outboxEventRepository.findMaxId()).thenReturn(10L);
+    }
+    
+    @Test
+    void testPollDispatchesEventsCommittedOnAnyNode() {
+        // Given
+        feed.resume();
+        when(balanceStreamHub.hasSubscribers()).thenReturn(true);
+        when(outboxEventRepository.findByIdGreaterThanOrderByIdAsc(eq(10L), any(Limit.class)))
+                .thenReturn(List.of(event(11L, 1L, 100.0), event(12L, 2L, 200.0)));
+        
+        // When
+        feed.poll();
+        
+        // Then
+        ArgumentCaptor<BalanceChangedEvent> events = ArgumentCaptor.forClass(BalanceChangedEvent.class);
+        verify(balanceStreamHub, times(2)).onBalanceChanged(events.capture());
+        assertEquals(new BalanceChangedEvent(11L, 1L, 100.0), events.getAllValues().get(0));
+        assertEquals(new BalanceChangedEvent(12L, 2L, 200.0), events.getAllValues().get(1));
+        assertEquals(0, feed.getGapCount());
+    }
+    
+    @Test
+    void testPollDeliversEventThatCommitsAfterAHigherId() {
+        // Given - event 11 is still uncommitted when 12 becomes visible
+        feed.resume();
+        when(balanceStreamHub.hasSubscribers()).thenReturn(true);
+        when(outboxEventRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Limit.class)))
+                .thenReturn(List.of(event(12L, 2L, 200.0)), List.of());
+        feed.poll();
+        assertEquals(1, feed.getGapCount());
+        when(outboxEventRepository.findAllById(List.of(11L))).thenReturn(List.of(event(11L, 1L, 100.0)));
+        
+        // When
+        feed.poll();
+        
+        // Then
+        verify(balanceStreamHub).onBalanceChanged(new BalanceChangedEvent(11L, 1L, 100.0));
+        assertEquals(0, feed.getGapCount());
+    }
+    
+    @Test
+    void testPollSkipsOutboxWithoutSubscribers() {
+        // Given
+        when(balanceStreamHub.hasSubscribers()).thenReturn(false);
+        
+        // When
+        feed.poll();
+        
+        // Then
+        verifyNoInteractions(outboxEventRepository);
+        verify(balanceStreamHub, never()).onBalanceChanged(any());
+    }
+    
+    @Test
+    void testFirstSubscriberResumesFromCurrentMaxId() {
+        // Given - the feed went idle at 10 while events up to 20 were written
+        feed.resume();
+        when(balanceStreamHub.hasSubscribers()).thenReturn(false).thenReturn(true);
+        feed.poll();
+        when(outboxEventRepository.findMaxId()).thenReturn(20L);
+        
+        // When
+        feed.resume();
+        feed.resume();
+        when(outboxEventRepository.findByIdGreaterThanOrderByIdAsc(eq(20L), any(Limit.class)))
+                .thenReturn(List.of(event(21L, 1L, 100.0)));
+        feed.poll();
+        
+        // Then - events written while idle are neither read nor tracked as gaps
+        verify(outboxEventRepository, times(2)).findMaxId();
+        verify(outboxEventRepository, never()).findByIdGreaterThanOrderByIdAsc(eq(10L), any(Limit.class));
+        verify(balanceStreamHub).onBalanceChanged(new BalanceChangedEvent(21L, 1L, 100.0));
+        assertEquals(0, feed.getGapCount());
+    }
+
+    
+    private OutboxEvent event(Long id, Long accountId, double balance) {
+        OutboxEvent event = new OutboxEvent();
+        event.setId(id);
+        event.setAccountId(accountId);
+        event.setEventType(AccountEventType.DEPOSITED);
+        event.setAmount(10.0);
+        event.setBalance(balance);
+        return event;
+    }
+}
@@ -0,0 +1,198 @@
+package com.ringale.banking_app.stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.ringale.banking_app.dto.BalanceUpdateDto;
+import com.ringale.banking_app.exception.AccountNotFoundException;
+import com.ringale.banking_app.exception.SubscriberLimitExceededException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BalanceStreamHub and BalanceSubscriber.
+ */
+public class BalanceStreamHubTest {
+    
+    private BalanceStreamHub hub;
+    
+    @AfterEach
+    void tearDown() {
+        if (hub != null) {
+            hub.destroy();
+        }
+    }
+    
+    @Test
+    void testSubscribeRejectsWhenAtCapacity() {
+        // Given
+        hub = new BalanceStreamHub(2, 16, 60000, 1, 100, 5000, 4);
+        hub.subscribe(1L, () -> 100.0);
+        hub.subscribe(2L, () -> 200.0);
+        
+        // When & Then
+        assertThrows(SubscriberLimitExceededException.class, () -> hub.subscribe(3L, () -> 300.0));
+        assertEquals(2, hub.getSubscriberCount());
+    }
+    
+    @Test
+    void testBalanceChangeWithoutSubscribersIsIgnored() {
+        // Given
+        hub = new BalanceStreamHub(10, 16, 60000, 1, 100, 5000, 4);
+        
+        // When & Then
+        assertDoesNotThrow(() -> hub.onBalanceChanged(new BalanceChangedEvent(1L, 42L, 10.0)));
+        assertEquals(0, hub.getSubscriberCount());
+    }
+    
+    @Test
+    void testSubscriberReportsOverflowWhenBufferIsFull() {
+        // Given - an executor that never drains simulates a stalled client
+        BalanceSubscriber subscriber = new BalanceSubscriber(1L, new SseEmitter(), 2, runnable -> { });
+        
+        // When
+        boolean first = subscriber.offer(new BalanceUpdateDto(1L, 10.0));
+        boolean second = subscriber.offer(new BalanceUpdateDto(1L, 20.0));
+        boolean third = subscriber.offer(new BalanceUpdateDto(1L, 30.0));
+        
+        // Then
+        assertTrue(first);
+        assertTrue(second);
+        assertFalse(third);
+    }
+    
+    @Test
+    void testSubscribeReleasesSlotWhenBalanceReadFails() {
+        // Given
+        hub = new BalanceStreamHub(10, 16, 60000, 1, 100, 5000, 4);
+        
+        // When & Then
+        assertThrows(AccountNotFoundException.class, () -> hub.subscribe(1L, () -> {
+            throw new AccountNotFoundException("Account not found");
+        }));
+        assertEquals(0, hub.getSubscriberCount());
+        assertFalse(hub.hasSubscribers());
+    }
+    
+    @Test
+    void testSubscribeRunsListenerBeforeReadingBalance() {
+        // Given
+        hub = new BalanceStreamHub(10, 16, 60000, 1, 100, 5000, 4);
+        AtomicBoolean listenerRan = new AtomicBoolean();
+        hub.setSubscribeListener(() -> listenerRan.set(hub.hasSubscribers()));
+        
+        // When
+        hub.subscribe(1L, () -> {
+            assertTrue(listenerRan.get());
+            return 100.0;
+        });
+        
+        // Then
+        assertTrue(listenerRan.get());
+    }
+    
+    @Test
+    void testSubscribersAreDroppedWhenDispatchQueueIsFull() throws Exception {
+        // Given - the only dispatch thread is blocked and the one-slot queue holds a pending drain
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        hub = new BalanceStreamHub(10, 16, 60000, 1, 1, 5000, 4) {
+            @Override
+            SseEmitter createEmitter(long timeoutMs) {
+                return new BlockingEmitter(sending, release);
+            }
+        };
+        hub.subscribe(1L, () -> 100.0);
+        assertTrue(sending.await(5, TimeUnit.SECONDS));
+        hub.subscribe(2L, () -> 200.0);
+        
+        // When
+        hub.onBalanceChanged(new BalanceChangedEvent(1L, 2L, 250.0));
+        
+        // Then - the account whose update was rejected loses its subscriber, the other keeps it
+        assertEquals(1, hub.getSubscriberCount());
+        assertEquals(1, hub.getDroppedCount());
+        release.countDown();
+    }
+    
+    @Test
+    void testSubscriberSkipsDuplicateAndOlderEvents() {
+        // Given - nothing is drained before start, so the buffer shows what was accepted
+        BalanceSubscriber subscriber = new BalanceSubscriber(1L, new SseEmitter(), 1, runnable -> { });
+        
+        // When
+        boolean first = subscriber.offer(new BalanceUpdateDto(1L, 10.0), 5L);
+        boolean duplicate = subscriber.offer(new BalanceUpdateDto(1L, 10.0), 5L);
+        boolean older = subscriber.offer(new BalanceUpdateDto(1L, 5.0), 4L);
+        boolean newer = subscriber.offer(new BalanceUpdateDto(1L, 20.0), 6L);
+        
+        // Then - only the newer event overflows the one-slot buffer
+        assertTrue(first);
+        assertTrue(duplicate);
+        assertTrue(older);
+        assertFalse(newer);
+    }
+    
+    @Test
+    void testStalledSubscriberIsDroppedWithoutBlocking() throws Exception {
+        // Given - the client stops reading during the first send
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        hub = new BalanceStreamHub(10, 16, 60000, 1, 100, 50, 4) {
+            @Override
+            SseEmitter createEmitter(long timeoutMs) {
+                return new BlockingEmitter(sending, release);
+            }
+        };
+        hub.subscribe(1L, () -> 100.0);
+        assertTrue(sending.await(5, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        
+        // When
+        assertTimeoutPreemptively(Duration.ofSeconds(2), hub::dropStalledSubscribers);
+        
+        // Then - the subscriber is gone and a thread stands in for the blocked one
+        assertEquals(0, hub.getSubscriberCount());
+        assertEquals(1, hub.getDroppedCount());
+        assertEquals(2, hub.getDispatchThreads());
+        
+        // When the blocked send returns
+        release.countDown();
+        Thread.sleep(100);
+        hub.dropStalledSubscribers();
+        
+        // Then
+        assertEquals(1, hub.getDispatchThreads());
+    }
+    
+    /**
+     * Emitter whose sends block until released, like a client that stopped reading
+     */
+    private static class BlockingEmitter extends SseEmitter {
+        
+        private final CountDownLatch sending;
+        private final CountDownLatch release;
+        
+        BlockingEmitter(CountDownLatch sending, CountDownLatch release) {
+            this.sending = sending;
+            this.release = release;
+        }
+        
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                throw new IOException(ex);
+            }
+        }
+    }
+}